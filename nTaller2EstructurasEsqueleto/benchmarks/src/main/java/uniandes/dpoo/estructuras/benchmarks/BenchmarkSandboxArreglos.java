@@ -0,0 +1,301 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.benchmarks.DatosBenchmark.Distribucion;
+import uniandes.dpoo.estructuras.logica.EstadisticasEnteros;
+import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+import uniandes.dpoo.estructuras.logica.TablaHashEnteros;
+
+/**
+ * Benchmarks de los métodos públicos de SandboxArreglos.
+ *
+ * Las consultas se miden sobre un sandbox que se construye una sola vez; las modificaciones se miden sobre un sandbox nuevo en cada invocación.
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BenchmarkSandboxArreglos
+{
+    @State( Scope.Thread )
+    public static class Datos
+    {
+        @Param( { "1000", "10000", "100000", "1000000", "10000000" } )
+        public int tamano;
+
+        @Param( { "UNIFORME", "POCOS_DISTINTOS", "ORDENADO" } )
+        public Distribucion distribucion;
+
+        // 2147483647 es SIN_PARALELISMO; con 1 todas las operaciones que lo permiten corren en paralelo
+        @Param( { "2147483647", "1" } )
+        public int umbralParalelo;
+
+        int[] enteros;
+        double[] decimales;
+        String[] cadenas;
+        Object[] objetos;
+        int[] lote;
+        String[] loteCadenas;
+        int enteroBuscado;
+        String cadenaBuscada;
+        SandboxArreglos sandbox;
+
+        @Setup( Level.Trial )
+        public void preparar( )
+        {
+            enteros = DatosBenchmark.enteros( tamano, distribucion );
+            decimales = DatosBenchmark.decimales( tamano, distribucion );
+            cadenas = DatosBenchmark.cadenas( tamano, distribucion );
+            objetos = cadenas.clone( );
+            lote = DatosBenchmark.enteros( Math.max( 1, tamano / 100 ), distribucion );
+            loteCadenas = DatosBenchmark.cadenas( Math.max( 1, tamano / 100 ), distribucion );
+            enteroBuscado = enteros[ tamano / 2 ];
+            cadenaBuscada = cadenas[ tamano / 2 ].toUpperCase( );
+            sandbox = construir( this );
+        }
+    }
+
+    @State( Scope.Thread )
+    public static class Modificable
+    {
+        SandboxArreglos sandbox;
+
+        @Setup( Level.Invocation )
+        public void reiniciar( Datos datos )
+        {
+            sandbox = construir( datos );
+        }
+    }
+
+    static SandboxArreglos construir( Datos datos )
+    {
+        SandboxArreglos sandbox = new SandboxArreglos( );
+        sandbox.setUmbralParalelo( datos.umbralParalelo );
+        sandbox.agregarEnteros( datos.enteros );
+        sandbox.agregarCadenas( datos.cadenas );
+        return sandbox;
+    }
+
+    // Consultas
+
+    @Benchmark
+    public int[] getCopiaEnteros( Datos d )
+    {
+        return d.sandbox.getCopiaEnteros( );
+    }
+
+    @Benchmark
+    public String[] getCopiaCadenas( Datos d )
+    {
+        return d.sandbox.getCopiaCadenas( );
+    }
+
+    @Benchmark
+    public int getCantidadEnteros( Datos d )
+    {
+        return d.sandbox.getCantidadEnteros( );
+    }
+
+    @Benchmark
+    public int getCantidadCadenas( Datos d )
+    {
+        return d.sandbox.getCantidadCadenas( );
+    }
+
+    @Benchmark
+    public int contarAparicionesEntero( Datos d )
+    {
+        return d.sandbox.contarApariciones( d.enteroBuscado );
+    }
+
+    @Benchmark
+    public int contarAparicionesCadena( Datos d )
+    {
+        return d.sandbox.contarApariciones( d.cadenaBuscada );
+    }
+
+    @Benchmark
+    public int[] buscarEntero( Datos d )
+    {
+        return d.sandbox.buscarEntero( d.enteroBuscado );
+    }
+
+    @Benchmark
+    public int[] calcularRangoEnteros( Datos d )
+    {
+        return d.sandbox.calcularRangoEnteros( );
+    }
+
+    @Benchmark
+    public EstadisticasEnteros calcularEstadisticasEnteros( Datos d )
+    {
+        return d.sandbox.calcularEstadisticasEnteros( );
+    }
+
+    @Benchmark
+    public HashMap<Integer, Integer> calcularHistograma( Datos d )
+    {
+        return d.sandbox.calcularHistograma( );
+    }
+
+    @Benchmark
+    public TablaHashEnteros calcularHistogramaPrimitivo( Datos d )
+    {
+        return d.sandbox.calcularHistogramaPrimitivo( );
+    }
+
+    @Benchmark
+    public int contarEnterosRepetidos( Datos d )
+    {
+        return d.sandbox.contarEnterosRepetidos( );
+    }
+
+    @Benchmark
+    public boolean compararArregloEnteros( Datos d )
+    {
+        return d.sandbox.compararArregloEnteros( d.enteros );
+    }
+
+    @Benchmark
+    public boolean mismosEnteros( Datos d )
+    {
+        return d.sandbox.mismosEnteros( d.enteros );
+    }
+
+    // Modificaciones
+
+    @Benchmark
+    public SandboxArreglos agregarEntero( Datos d, Modificable m )
+    {
+        m.sandbox.agregarEntero( d.enteroBuscado );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos agregarCadena( Datos d, Modificable m )
+    {
+        m.sandbox.agregarCadena( d.cadenaBuscada );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos agregarEnteros( Datos d, Modificable m )
+    {
+        m.sandbox.agregarEnteros( d.lote );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos agregarCadenas( Datos d, Modificable m )
+    {
+        m.sandbox.agregarCadenas( d.loteCadenas );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos eliminarEntero( Datos d, Modificable m )
+    {
+        m.sandbox.eliminarEntero( d.enteroBuscado );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos eliminarEnteros( Datos d, Modificable m )
+    {
+        m.sandbox.eliminarEnteros( d.lote );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos eliminarCadena( Datos d, Modificable m )
+    {
+        m.sandbox.eliminarCadena( d.cadenaBuscada );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos insertarEntero( Datos d, Modificable m )
+    {
+        m.sandbox.insertarEntero( d.enteroBuscado, d.tamano / 2 );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos insertarEnteros( Datos d, Modificable m )
+    {
+        m.sandbox.insertarEnteros( d.lote, d.tamano / 2 );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos insertarCadenas( Datos d, Modificable m )
+    {
+        m.sandbox.insertarCadenas( d.loteCadenas, d.tamano / 2 );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos eliminarEnteroPorPosicion( Datos d, Modificable m )
+    {
+        m.sandbox.eliminarEnteroPorPosicion( d.tamano / 2 );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos reiniciarArregloEnteros( Datos d, Modificable m )
+    {
+        m.sandbox.reiniciarArregloEnteros( d.decimales );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos reiniciarArregloCadenas( Datos d, Modificable m )
+    {
+        m.sandbox.reiniciarArregloCadenas( d.objetos );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos volverPositivos( Modificable m )
+    {
+        m.sandbox.volverPositivos( );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos organizarEnteros( Modificable m )
+    {
+        m.sandbox.organizarEnteros( );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos organizarCadenas( Modificable m )
+    {
+        m.sandbox.organizarCadenas( );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxArreglos generarEnteros( Datos d, Modificable m )
+    {
+        m.sandbox.generarEnteros( d.tamano, -d.tamano, d.tamano );
+        return m.sandbox;
+    }
+}
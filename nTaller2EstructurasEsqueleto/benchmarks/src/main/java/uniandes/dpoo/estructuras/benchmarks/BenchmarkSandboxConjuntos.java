@@ -0,0 +1,188 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.benchmarks.DatosBenchmark.Distribucion;
+import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
+
+/**
+ * Benchmarks de los métodos públicos de SandboxConjuntos.
+ *
+ * Las consultas se miden sobre un sandbox que se construye una sola vez; las modificaciones se miden sobre un sandbox nuevo en cada invocación.
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BenchmarkSandboxConjuntos
+{
+    @State( Scope.Thread )
+    public static class Datos
+    {
+        @Param( { "1000", "10000", "100000", "1000000", "10000000" } )
+        public int tamano;
+
+        @Param( { "UNIFORME", "POCOS_DISTINTOS", "PREFIJOS_COMPARTIDOS" } )
+        public Distribucion distribucion;
+
+        List<Object> objetos;
+        String[] consultas;
+        String cadenaBuscada;
+        SandboxConjuntos sandbox;
+
+        @Setup( Level.Trial )
+        public void preparar( )
+        {
+            objetos = DatosBenchmark.objetos( tamano, distribucion );
+            consultas = DatosBenchmark.cadenas( Math.max( 1, tamano / 100 ), distribucion );
+            cadenaBuscada = objetos.get( tamano / 2 ).toString( );
+            sandbox = construir( this );
+        }
+    }
+
+    @State( Scope.Thread )
+    public static class Modificable
+    {
+        SandboxConjuntos sandbox;
+
+        @Setup( Level.Invocation )
+        public void reiniciar( Datos datos )
+        {
+            sandbox = construir( datos );
+        }
+    }
+
+    static SandboxConjuntos construir( Datos datos )
+    {
+        SandboxConjuntos sandbox = new SandboxConjuntos( );
+        sandbox.reiniciarConjuntoCadenas( datos.objetos );
+        return sandbox;
+    }
+
+    // Consultas
+
+    @Benchmark
+    public Object getCadenasComoLista( Datos d )
+    {
+        return d.sandbox.getCadenasComoLista( );
+    }
+
+    @Benchmark
+    public Object getVistaCadenas( Datos d )
+    {
+        return d.sandbox.getVistaCadenas( );
+    }
+
+    @Benchmark
+    public Object getCadenasComoListaInvertida( Datos d )
+    {
+        return d.sandbox.getCadenasComoListaInvertida( );
+    }
+
+    @Benchmark
+    public String getPrimera( Datos d )
+    {
+        return d.sandbox.getPrimera( );
+    }
+
+    @Benchmark
+    public String getUltima( Datos d )
+    {
+        return d.sandbox.getUltima( );
+    }
+
+    @Benchmark
+    public int getSiguientes( Datos d )
+    {
+        return d.sandbox.getSiguientes( d.cadenaBuscada ).size( );
+    }
+
+    @Benchmark
+    public int getCantidadSiguientes( Datos d )
+    {
+        return d.sandbox.getCantidadSiguientes( d.cadenaBuscada );
+    }
+
+    @Benchmark
+    public Object getPaginaSiguientes( Datos d )
+    {
+        return d.sandbox.getPaginaSiguientes( d.cadenaBuscada, d.tamano / 4, 50 );
+    }
+
+    @Benchmark
+    public int getCantidadCadenas( Datos d )
+    {
+        return d.sandbox.getCantidadCadenas( );
+    }
+
+    @Benchmark
+    public Object invertirCadenas( Datos d )
+    {
+        return d.sandbox.invertirCadenas( );
+    }
+
+    @Benchmark
+    public boolean compararElementos( Datos d )
+    {
+        return d.sandbox.compararElementos( d.consultas );
+    }
+
+    // Modificaciones
+
+    @Benchmark
+    public SandboxConjuntos agregarCadena( Datos d, Modificable m )
+    {
+        m.sandbox.agregarCadena( d.cadenaBuscada + "#" );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxConjuntos eliminarCadena( Datos d, Modificable m )
+    {
+        m.sandbox.eliminarCadena( d.cadenaBuscada );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxConjuntos eliminarCadenaSinMayusculasOMinusculas( Datos d, Modificable m )
+    {
+        m.sandbox.eliminarCadenaSinMayusculasOMinusculas( d.cadenaBuscada.toUpperCase( ) );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxConjuntos eliminarPrimera( Modificable m )
+    {
+        m.sandbox.eliminarPrimera( );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxConjuntos reiniciarConjuntoCadenas( Datos d, Modificable m )
+    {
+        m.sandbox.reiniciarConjuntoCadenas( d.objetos );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxConjuntos volverMayusculas( Modificable m )
+    {
+        m.sandbox.volverMayusculas( );
+        return m.sandbox;
+    }
+}
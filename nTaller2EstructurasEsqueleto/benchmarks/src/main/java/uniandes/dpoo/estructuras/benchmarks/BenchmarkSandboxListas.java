@@ -0,0 +1,247 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.benchmarks.DatosBenchmark.Distribucion;
+import uniandes.dpoo.estructuras.logica.EstadisticasEnteros;
+import uniandes.dpoo.estructuras.logica.SandboxListas;
+
+/**
+ * Benchmarks de los métodos públicos de SandboxListas.
+ *
+ * Las consultas se miden sobre un sandbox que se construye una sola vez; las modificaciones se miden sobre un sandbox nuevo en cada invocación.
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BenchmarkSandboxListas
+{
+    @State( Scope.Thread )
+    public static class Datos
+    {
+        @Param( { "1000", "10000", "100000", "1000000", "10000000" } )
+        public int tamano;
+
+        @Param( { "UNIFORME", "POCOS_DISTINTOS", "ORDENADO" } )
+        public Distribucion distribucion;
+
+        // 2147483647 es SIN_PARALELISMO; con 1 todas las operaciones que lo permiten corren en paralelo
+        @Param( { "2147483647", "1" } )
+        public int umbralParalelo;
+
+        int[] enteros;
+        double[] decimales;
+        List<Object> objetos;
+        int enteroBuscado;
+        String cadenaBuscada;
+        SandboxListas sandbox;
+
+        @Setup( Level.Trial )
+        public void preparar( )
+        {
+            enteros = DatosBenchmark.enteros( tamano, distribucion );
+            decimales = DatosBenchmark.decimales( tamano, distribucion );
+            objetos = DatosBenchmark.objetos( tamano, distribucion );
+            enteroBuscado = enteros[ tamano / 2 ];
+            cadenaBuscada = objetos.get( tamano / 2 ).toString( ).toUpperCase( );
+            sandbox = construir( this );
+        }
+    }
+
+    @State( Scope.Thread )
+    public static class Modificable
+    {
+        SandboxListas sandbox;
+
+        @Setup( Level.Invocation )
+        public void reiniciar( Datos datos )
+        {
+            sandbox = construir( datos );
+        }
+    }
+
+    static SandboxListas construir( Datos datos )
+    {
+        SandboxListas sandbox = new SandboxListas( );
+        sandbox.setUmbralParalelo( datos.umbralParalelo );
+        sandbox.reiniciarArregloEnteros( datos.decimales );
+        sandbox.reiniciarArregloCadenas( datos.objetos );
+        return sandbox;
+    }
+
+    // Consultas
+
+    @Benchmark
+    public Object getCopiaEnteros( Datos d )
+    {
+        return d.sandbox.getCopiaEnteros( );
+    }
+
+    @Benchmark
+    public Object getCopiaCadenas( Datos d )
+    {
+        return d.sandbox.getCopiaCadenas( );
+    }
+
+    @Benchmark
+    public int[] getEnterosComoArreglo( Datos d )
+    {
+        return d.sandbox.getEnterosComoArreglo( );
+    }
+
+    @Benchmark
+    public Object getVistaEnteros( Datos d )
+    {
+        return d.sandbox.getVistaEnteros( );
+    }
+
+    @Benchmark
+    public Object getVistaCadenas( Datos d )
+    {
+        return d.sandbox.getVistaCadenas( );
+    }
+
+    @Benchmark
+    public int getCantidadEnteros( Datos d )
+    {
+        return d.sandbox.getCantidadEnteros( );
+    }
+
+    @Benchmark
+    public int getCantidadCadenas( Datos d )
+    {
+        return d.sandbox.getCantidadCadenas( );
+    }
+
+    @Benchmark
+    public int contarAparicionesEntero( Datos d )
+    {
+        return d.sandbox.contarApariciones( d.enteroBuscado );
+    }
+
+    @Benchmark
+    public int contarAparicionesCadena( Datos d )
+    {
+        return d.sandbox.contarApariciones( d.cadenaBuscada );
+    }
+
+    @Benchmark
+    public EstadisticasEnteros calcularEstadisticasEnteros( Datos d )
+    {
+        return d.sandbox.calcularEstadisticasEnteros( );
+    }
+
+    @Benchmark
+    public int contarEnterosRepetidos( Datos d )
+    {
+        return d.sandbox.contarEnterosRepetidos( );
+    }
+
+    @Benchmark
+    public boolean compararArregloEnteros( Datos d )
+    {
+        return d.sandbox.compararArregloEnteros( d.enteros );
+    }
+
+    // Modificaciones
+
+    @Benchmark
+    public SandboxListas agregarEntero( Datos d, Modificable m )
+    {
+        m.sandbox.agregarEntero( d.enteroBuscado );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas agregarCadena( Datos d, Modificable m )
+    {
+        m.sandbox.agregarCadena( d.cadenaBuscada );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas eliminarEntero( Datos d, Modificable m )
+    {
+        m.sandbox.eliminarEntero( d.enteroBuscado );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas eliminarCadena( Datos d, Modificable m )
+    {
+        m.sandbox.eliminarCadena( d.cadenaBuscada );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas insertarEntero( Datos d, Modificable m )
+    {
+        m.sandbox.insertarEntero( d.enteroBuscado, d.tamano / 2 );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas eliminarEnteroPorPosicion( Datos d, Modificable m )
+    {
+        m.sandbox.eliminarEnteroPorPosicion( d.tamano / 2 );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas reiniciarArregloEnteros( Datos d, Modificable m )
+    {
+        m.sandbox.reiniciarArregloEnteros( d.decimales );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas reiniciarArregloCadenas( Datos d, Modificable m )
+    {
+        m.sandbox.reiniciarArregloCadenas( d.objetos );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas volverPositivos( Modificable m )
+    {
+        m.sandbox.volverPositivos( );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas organizarEnteros( Modificable m )
+    {
+        m.sandbox.organizarEnteros( );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas organizarCadenas( Modificable m )
+    {
+        m.sandbox.organizarCadenas( );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxListas generarEnteros( Datos d, Modificable m )
+    {
+        m.sandbox.generarEnteros( d.tamano, -d.tamano, d.tamano );
+        return m.sandbox;
+    }
+}
@@ -0,0 +1,159 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniandes.dpoo.estructuras.benchmarks.DatosBenchmark.Distribucion;
+import uniandes.dpoo.estructuras.logica.SandboxMapas;
+
+/**
+ * Benchmarks de los métodos públicos de SandboxMapas.
+ *
+ * Las consultas se miden sobre un sandbox que se construye una sola vez; las modificaciones se miden sobre un sandbox nuevo en cada invocación.
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BenchmarkSandboxMapas
+{
+    @State( Scope.Thread )
+    public static class Datos
+    {
+        @Param( { "1000", "10000", "100000", "1000000", "10000000" } )
+        public int tamano;
+
+        @Param( { "UNIFORME", "POCOS_DISTINTOS", "PREFIJOS_COMPARTIDOS" } )
+        public Distribucion distribucion;
+
+        List<Object> objetos;
+        String[] consultas;
+        String cadenaBuscada;
+        String llaveBuscada;
+        SandboxMapas sandbox;
+
+        @Setup( Level.Trial )
+        public void preparar( )
+        {
+            objetos = DatosBenchmark.objetos( tamano, distribucion );
+            consultas = DatosBenchmark.cadenas( Math.max( 1, tamano / 100 ), distribucion );
+            cadenaBuscada = objetos.get( tamano / 2 ).toString( );
+            llaveBuscada = new StringBuilder( cadenaBuscada ).reverse( ).toString( );
+            sandbox = construir( this );
+        }
+    }
+
+    @State( Scope.Thread )
+    public static class Modificable
+    {
+        SandboxMapas sandbox;
+
+        @Setup( Level.Invocation )
+        public void reiniciar( Datos datos )
+        {
+            sandbox = construir( datos );
+        }
+    }
+
+    static SandboxMapas construir( Datos datos )
+    {
+        SandboxMapas sandbox = new SandboxMapas( );
+        sandbox.reiniciarMapaCadenas( datos.objetos );
+        return sandbox;
+    }
+
+    // Consultas
+
+    @Benchmark
+    public Object getValoresComoLista( Datos d )
+    {
+        return d.sandbox.getValoresComoLista( );
+    }
+
+    @Benchmark
+    public Object getLlavesComoListaInvertida( Datos d )
+    {
+        return d.sandbox.getLlavesComoListaInvertida( );
+    }
+
+    @Benchmark
+    public String getPrimera( Datos d )
+    {
+        return d.sandbox.getPrimera( );
+    }
+
+    @Benchmark
+    public String getUltima( Datos d )
+    {
+        return d.sandbox.getUltima( );
+    }
+
+    @Benchmark
+    public Object getLlaves( Datos d )
+    {
+        return d.sandbox.getLlaves( );
+    }
+
+    @Benchmark
+    public int getCantidadCadenasDiferentes( Datos d )
+    {
+        return d.sandbox.getCantidadCadenasDiferentes( );
+    }
+
+    @Benchmark
+    public boolean compararValores( Datos d )
+    {
+        return d.sandbox.compararValores( d.consultas );
+    }
+
+    // Modificaciones
+
+    @Benchmark
+    public SandboxMapas agregarCadena( Datos d, Modificable m )
+    {
+        m.sandbox.agregarCadena( d.cadenaBuscada + "#" );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxMapas eliminarCadenaConLLave( Datos d, Modificable m )
+    {
+        m.sandbox.eliminarCadenaConLLave( d.llaveBuscada );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxMapas eliminarCadenaConValor( Datos d, Modificable m )
+    {
+        m.sandbox.eliminarCadenaConValor( d.cadenaBuscada );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxMapas reiniciarMapaCadenas( Datos d, Modificable m )
+    {
+        m.sandbox.reiniciarMapaCadenas( d.objetos );
+        return m.sandbox;
+    }
+
+    @Benchmark
+    public SandboxMapas volverMayusculas( Modificable m )
+    {
+        m.sandbox.volverMayusculas( );
+        return m.sandbox;
+    }
+}
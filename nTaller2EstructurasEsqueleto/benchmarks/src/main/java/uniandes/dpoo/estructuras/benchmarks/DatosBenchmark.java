@@ -0,0 +1,137 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Esta clase construye los datos de entrada de los benchmarks.
+ *
+ * Los datos se generan con una semilla fija para que todas las ejecuciones midan exactamente las mismas entradas.
+ */
+public class DatosBenchmark
+{
+    /**
+     * Las distribuciones de valores con las que se prueban las operaciones
+     */
+    public enum Distribucion
+    {
+        /**
+         * Valores uniformes en un rango amplio, casi sin repetidos
+         */
+        UNIFORME,
+
+        /**
+         * Valores en un rango pequeño, con muchos repetidos
+         */
+        POCOS_DISTINTOS,
+
+        /**
+         * Valores uniformes ya ordenados de menor a mayor
+         */
+        ORDENADO,
+
+        /**
+         * Cadenas largas que comparten prefijos, como URLs o identificadores
+         */
+        PREFIJOS_COMPARTIDOS
+    }
+
+    /**
+     * La semilla usada para generar todos los datos
+     */
+    private static final long SEMILLA = 20240917L;
+
+    /**
+     * La cantidad de valores diferentes en la distribución POCOS_DISTINTOS
+     */
+    private static final int VALORES_DISTINTOS = 64;
+
+    private DatosBenchmark( )
+    {
+    }
+
+    /**
+     * Genera un arreglo de enteros con la distribución indicada
+     * @param tamano La cantidad de enteros
+     * @param distribucion La distribución de los valores
+     * @return Un arreglo nuevo con los enteros
+     */
+    public static int[] enteros( int tamano, Distribucion distribucion )
+    {
+        SplittableRandom aleatorio = new SplittableRandom( SEMILLA );
+        int[] valores = new int[tamano];
+        for( int i = 0; i < tamano; i++ )
+        {
+            if( distribucion == Distribucion.POCOS_DISTINTOS )
+            {
+                valores[ i ] = aleatorio.nextInt( -VALORES_DISTINTOS / 2, VALORES_DISTINTOS / 2 );
+            }
+            else
+            {
+                valores[ i ] = aleatorio.nextInt( -tamano, tamano );
+            }
+        }
+        if( distribucion == Distribucion.ORDENADO )
+        {
+            Arrays.sort( valores );
+        }
+        return valores;
+    }
+
+    /**
+     * Genera un arreglo de decimales cuyos valores truncados son los mismos de enteros(tamano, distribucion)
+     * @param tamano La cantidad de valores
+     * @param distribucion La distribución de los valores
+     * @return Un arreglo nuevo con los decimales
+     */
+    public static double[] decimales( int tamano, Distribucion distribucion )
+    {
+        int[] enteros = enteros( tamano, distribucion );
+        double[] valores = new double[tamano];
+        for( int i = 0; i < tamano; i++ )
+        {
+            valores[ i ] = enteros[ i ] + 0.25;
+        }
+        return valores;
+    }
+
+    /**
+     * Genera un arreglo de cadenas con la distribución indicada
+     * @param tamano La cantidad de cadenas
+     * @param distribucion La distribución de los valores
+     * @return Un arreglo nuevo con las cadenas
+     */
+    public static String[] cadenas( int tamano, Distribucion distribucion )
+    {
+        int[] enteros = enteros( tamano, distribucion );
+        String[] cadenas = new String[tamano];
+        for( int i = 0; i < tamano; i++ )
+        {
+            if( distribucion == Distribucion.PREFIJOS_COMPARTIDOS )
+            {
+                int valor = Math.abs( enteros[ i ] );
+                cadenas[ i ] = "https://uniandes.edu.co/dpoo/estructuras/" + ( valor % 16 ) + "/recurso-" + valor;
+            }
+            else
+            {
+                // Algunas cadenas cambian de mayúsculas para ejercitar las comparaciones sin mayúsculas
+                String cadena = Integer.toString( enteros[ i ], 36 );
+                cadenas[ i ] = ( i & 1 ) == 0 ? "v" + cadena : "V" + cadena;
+            }
+        }
+        return cadenas;
+    }
+
+    /**
+     * Genera una lista de objetos con las cadenas de cadenas(tamano, distribucion)
+     * @param tamano La cantidad de objetos
+     * @param distribucion La distribución de los valores
+     * @return Una lista nueva con los objetos
+     */
+    public static List<Object> objetos( int tamano, Distribucion distribucion )
+    {
+        return new ArrayList<Object>( Arrays.asList( ( Object[] )cadenas( tamano, distribucion ) ) );
+    }
+}
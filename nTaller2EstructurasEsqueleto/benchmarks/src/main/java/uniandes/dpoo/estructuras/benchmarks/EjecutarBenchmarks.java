@@ -0,0 +1,22 @@
+package uniandes.dpoo.estructuras.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ejecuta los benchmarks reportando el throughput de cada operación y, con el perfilador de GC, la cantidad de memoria asignada por operación (gc.alloc.rate.norm).
+ *
+ * Recibe opcionalmente una expresión regular para filtrar los benchmarks, por ejemplo "SandboxArreglos.calcularHistograma".
+ */
+public class EjecutarBenchmarks
+{
+    public static void main( String[] args ) throws RunnerException
+    {
+        String filtro = args.length > 0 ? args[ 0 ] : "uniandes.dpoo.estructuras.benchmarks.BenchmarkSandbox.*";
+        Options opciones = new OptionsBuilder( ).include( filtro ).addProfiler( GCProfiler.class ).build( );
+        new Runner( opciones ).run( );
+    }
+}
@@ -0,0 +1,1376 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedSet;
+
+/**
+ * Esta clase es un conjunto ordenado de cadenas guardado en un árbol de prefijos comprimido (un árbol radix o Patricia).
+ *
+ * Cada nodo del árbol guarda solo el fragmento de texto que lo separa de su padre, así que las cadenas que comparten un prefijo lo guardan una sola vez. Un nodo que no corresponde a una
+ * cadena del conjunto siempre tiene al menos dos hijos, de modo que no hay cadenas de nodos con un solo hijo.
+ *
+ * Buscar, agregar o eliminar una cadena recorre sus caracteres una sola vez: cuesta O(largo de la cadena), sin importar cuántas cadenas haya en el conjunto. Un TreeSet, en cambio, hace
+ * O(log n) comparaciones completas entre cadenas, y cada una vuelve a recorrer el prefijo que comparten.
+ *
+ * Los hijos de cada nodo están ordenados por su primer carácter, así que recorrer el árbol en profundidad visita las cadenas en el mismo orden de String.compareTo. Como las cadenas no se
+ * guardan completas, el iterador las arma a medida que las retorna.
+ *
+ * Cada nodo guarda además cuántas cadenas hay en su subárbol. Con esos conteos, posicionDe y obtener ubican una cadena por su posición en el orden recorriendo un solo camino del árbol, y
+ * el tamaño de las vistas de rango (subSet, headSet, tailSet) se calcula con dos posiciones en lugar de recorrer el rango: cuestan O(largo de la cadena × hijos por nodo), sin importar
+ * cuántas cadenas haya en el conjunto o en el rango.
+ *
+ * Igual que TreeSet, el conjunto no acepta null y sus iteradores fallan con ConcurrentModificationException si el conjunto cambia por fuera de ellos.
+ */
+public class ConjuntoPrefijos extends AbstractSet<String> implements NavigableSet<String>
+{
+    /**
+     * El arreglo de hijos que comparten todos los nodos sin hijos
+     */
+    private static final Nodo[] SIN_HIJOS = new Nodo[0];
+
+    /**
+     * La raíz del árbol. Su etiqueta es vacía y es terminal solo si la cadena vacía hace parte del conjunto.
+     */
+    private Nodo raiz;
+
+    /**
+     * La cantidad de cadenas del conjunto
+     */
+    private int tamano;
+
+    /**
+     * La cantidad de veces que ha cambiado el conjunto. Los iteradores la usan para detectar cambios hechos por fuera de ellos.
+     */
+    private int modificaciones;
+
+    /**
+     * El rango sin límites, en orden ascendente, al que se delegan las operaciones de navegación del conjunto completo
+     */
+    private final Rango completo;
+
+    /**
+     * Crea un conjunto vacío
+     */
+    public ConjuntoPrefijos( )
+    {
+        raiz = new Nodo( "" );
+        completo = new Rango( null, false, null, false, false );
+    }
+
+    /**
+     * Crea un conjunto con las cadenas de una colección
+     * @param cadenas Las cadenas iniciales
+     */
+    public ConjuntoPrefijos( Collection<String> cadenas )
+    {
+        this( );
+        addAll( cadenas );
+    }
+
+    /**
+     * Crea un conjunto con las primeras posiciones de un arreglo de cadenas ordenado de menor a mayor. Las cadenas repetidas se agregan una sola vez.
+     * @param cadenas El arreglo con las cadenas ordenadas
+     * @param cantidad La cantidad de posiciones del arreglo que se usan
+     * @return El conjunto con las cadenas
+     * @throws IllegalArgumentException Si las cadenas no están ordenadas
+     */
+    public static ConjuntoPrefijos desdeOrdenadas( String[] cadenas, int cantidad )
+    {
+        ConjuntoPrefijos conjunto = new ConjuntoPrefijos( );
+        conjunto.reemplazarConOrdenadas( cadenas, cantidad );
+        return conjunto;
+    }
+
+    /**
+     * Reemplaza el contenido del conjunto por las primeras posiciones de un arreglo de cadenas ordenado de menor a mayor. Las cadenas repetidas se agregan una sola vez.
+     *
+     * El conjunto conserva su identidad, así que las vistas que se obtuvieron antes (subSet, headSet, tailSet, descendingSet) muestran el contenido nuevo. Si las cadenas no están
+     * ordenadas, el conjunto no cambia.
+     *
+     * Como las cadenas llegan en orden, cada una solo puede colgar del camino más a la derecha del árbol, que se mantiene en una pila. Agregar una cadena no tiene que buscar desde la raíz
+     * ni copiar los hijos de los nodos que ya están completos, así que construir el conjunto cuesta O(total de caracteres). Los conteos de cada nodo se calculan cuando el nodo sale de la
+     * pila, porque en ese momento su subárbol ya está completo.
+     * @param cadenas El arreglo con las cadenas ordenadas
+     * @param cantidad La cantidad de posiciones del arreglo que se usan
+     * @throws IllegalArgumentException Si las cadenas no están ordenadas
+     */
+    public void reemplazarConOrdenadas( String[] cadenas, int cantidad )
+    {
+        Nodo nuevaRaiz = new Nodo( "" );
+        int nuevoTamano = 0;
+        Nodo[] camino = new Nodo[16];
+        int[] profundidades = new int[16];
+        int[] cantidadesHijos = new int[16];
+        camino[ 0 ] = nuevaRaiz;
+        int tope = 0;
+        String anterior = null;
+
+        for( int i = 0; i < cantidad; i++ )
+        {
+            String cadena = Objects.requireNonNull( cadenas[ i ] );
+            if( anterior == null )
+            {
+                if( cadena.isEmpty( ) )
+                {
+                    nuevaRaiz.terminal = true;
+                    nuevoTamano++;
+                    anterior = cadena;
+                    continue;
+                }
+            }
+            else
+            {
+                int comparacion = cadena.compareTo( anterior );
+                if( comparacion < 0 )
+                {
+                    throw new IllegalArgumentException( "Las cadenas no están ordenadas: " + anterior + " está antes de " + cadena );
+                }
+                if( comparacion == 0 )
+                {
+                    continue;
+                }
+            }
+
+            // El nuevo nodo cuelga del nodo más profundo del camino que es prefijo común con la cadena anterior
+            int comun = anterior == null ? 0 : prefijoComun( anterior, cadena, 0 );
+            Nodo sacado = null;
+            while( profundidades[ tope ] > comun )
+            {
+                sacado = camino[ tope ];
+                cerrarNodo( sacado, cantidadesHijos[ tope ] );
+                tope--;
+            }
+            if( profundidades[ tope ] < comun )
+            {
+                // La cadena se separa de la anterior en la mitad de la etiqueta del nodo sacado
+                int largo = comun - profundidades[ tope ];
+                Nodo intermedio = new Nodo( sacado.etiqueta.substring( 0, largo ) );
+                sacado.etiqueta = sacado.etiqueta.substring( largo );
+                intermedio.hijos = new Nodo[]{ sacado, null };
+                camino[ tope ].hijos[ cantidadesHijos[ tope ] - 1 ] = intermedio;
+                tope++;
+                camino[ tope ] = intermedio;
+                profundidades[ tope ] = comun;
+                cantidadesHijos[ tope ] = 1;
+            }
+
+            Nodo hoja = new Nodo( cadena.substring( comun ), true );
+            Nodo padre = camino[ tope ];
+            if( cantidadesHijos[ tope ] == padre.hijos.length )
+            {
+                padre.hijos = Arrays.copyOf( padre.hijos, Math.max( 2, padre.hijos.length * 2 ) );
+            }
+            padre.hijos[ cantidadesHijos[ tope ]++ ] = hoja;
+            tope++;
+            if( tope == camino.length )
+            {
+                camino = Arrays.copyOf( camino, tope * 2 );
+                profundidades = Arrays.copyOf( profundidades, tope * 2 );
+                cantidadesHijos = Arrays.copyOf( cantidadesHijos, tope * 2 );
+            }
+            camino[ tope ] = hoja;
+            profundidades[ tope ] = cadena.length( );
+            cantidadesHijos[ tope ] = 0;
+            nuevoTamano++;
+            anterior = cadena;
+        }
+
+        for( ; tope >= 0; tope-- )
+        {
+            cerrarNodo( camino[ tope ], cantidadesHijos[ tope ] );
+        }
+        raiz = nuevaRaiz;
+        tamano = nuevoTamano;
+        modificaciones++;
+    }
+
+    @Override
+    public int size( )
+    {
+        return tamano;
+    }
+
+    @Override
+    public boolean isEmpty( )
+    {
+        return tamano == 0;
+    }
+
+    @Override
+    public boolean contains( Object o )
+    {
+        return contiene( ( String )o );
+    }
+
+    @Override
+    public boolean add( String cadena )
+    {
+        return agregar( cadena );
+    }
+
+    @Override
+    public boolean remove( Object o )
+    {
+        return eliminar( ( String )o );
+    }
+
+    @Override
+    public void clear( )
+    {
+        raiz = new Nodo( "" );
+        tamano = 0;
+        modificaciones++;
+    }
+
+    @Override
+    public Iterator<String> iterator( )
+    {
+        return completo.iterator( );
+    }
+
+    @Override
+    public Iterator<String> descendingIterator( )
+    {
+        return completo.descendingIterator( );
+    }
+
+    @Override
+    public NavigableSet<String> descendingSet( )
+    {
+        return completo.descendingSet( );
+    }
+
+    @Override
+    public Comparator<? super String> comparator( )
+    {
+        return null;
+    }
+
+    @Override
+    public String first( )
+    {
+        return completo.first( );
+    }
+
+    @Override
+    public String last( )
+    {
+        return completo.last( );
+    }
+
+    @Override
+    public String lower( String cadena )
+    {
+        return completo.lower( cadena );
+    }
+
+    @Override
+    public String floor( String cadena )
+    {
+        return completo.floor( cadena );
+    }
+
+    @Override
+    public String ceiling( String cadena )
+    {
+        return completo.ceiling( cadena );
+    }
+
+    @Override
+    public String higher( String cadena )
+    {
+        return completo.higher( cadena );
+    }
+
+    @Override
+    public String pollFirst( )
+    {
+        return completo.pollFirst( );
+    }
+
+    @Override
+    public String pollLast( )
+    {
+        return completo.pollLast( );
+    }
+
+    @Override
+    public NavigableSet<String> subSet( String desde, boolean incluyeDesde, String hasta, boolean incluyeHasta )
+    {
+        return completo.subSet( desde, incluyeDesde, hasta, incluyeHasta );
+    }
+
+    @Override
+    public NavigableSet<String> headSet( String hasta, boolean incluyeHasta )
+    {
+        return completo.headSet( hasta, incluyeHasta );
+    }
+
+    @Override
+    public NavigableSet<String> tailSet( String desde, boolean incluyeDesde )
+    {
+        return completo.tailSet( desde, incluyeDesde );
+    }
+
+    @Override
+    public SortedSet<String> subSet( String desde, String hasta )
+    {
+        return subSet( desde, true, hasta, false );
+    }
+
+    @Override
+    public SortedSet<String> headSet( String hasta )
+    {
+        return headSet( hasta, false );
+    }
+
+    @Override
+    public SortedSet<String> tailSet( String desde )
+    {
+        return tailSet( desde, true );
+    }
+
+    /**
+     * Retorna la posición que tiene una cadena en el orden del conjunto, o la que tendría si se agregara
+     * @param cadena La cadena buscada
+     * @return La cantidad de cadenas del conjunto que son menores que la cadena
+     */
+    public int posicionDe( String cadena )
+    {
+        return contarMenores( Objects.requireNonNull( cadena ), false );
+    }
+
+    /**
+     * Retorna la cadena que está en una posición del orden del conjunto, bajando por el árbol con los conteos de los subárboles
+     * @param posicion La posición de la cadena, empezando en 0
+     * @return La cadena en la posición
+     * @throws IndexOutOfBoundsException Si la posición no está entre 0 y size() - 1
+     */
+    public String obtener( int posicion )
+    {
+        if( posicion < 0 || posicion >= tamano )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamano );
+        }
+        StringBuilder cadena = new StringBuilder( );
+        Nodo nodo = raiz;
+        while( true )
+        {
+            if( nodo.terminal )
+            {
+                if( posicion == 0 )
+                {
+                    return cadena.toString( );
+                }
+                posicion--;
+            }
+            for( Nodo hijo : nodo.hijos )
+            {
+                if( posicion < hijo.cantidad )
+                {
+                    cadena.append( hijo.etiqueta );
+                    nodo = hijo;
+                    break;
+                }
+                posicion -= hijo.cantidad;
+            }
+        }
+    }
+
+    /**
+     * Cuenta las cadenas del conjunto que son menores (o iguales, si es inclusivo) a una cadena, sumando los conteos de los subárboles que quedan a la izquierda de su camino
+     */
+    private int contarMenores( String cadena, boolean inclusivo )
+    {
+        int menores = 0;
+        Nodo nodo = raiz;
+        int pos = 0;
+        while( pos < cadena.length( ) )
+        {
+            // El propio nodo es prefijo de la cadena, así que es menor
+            if( nodo.terminal )
+            {
+                menores++;
+            }
+            int i = buscarHijo( nodo, cadena.charAt( pos ) );
+            int anteriores = i >= 0 ? i : -i - 1;
+            for( int k = 0; k < anteriores; k++ )
+            {
+                menores += nodo.hijos[ k ].cantidad;
+            }
+            if( i < 0 )
+            {
+                return menores;
+            }
+            Nodo hijo = nodo.hijos[ i ];
+            int comun = prefijoComun( hijo.etiqueta, cadena, pos );
+            if( comun < hijo.etiqueta.length( ) )
+            {
+                // La cadena termina o se separa dentro de la etiqueta: el subárbol del hijo es completamente mayor o completamente menor
+                boolean hijoMenor = pos + comun < cadena.length( ) && hijo.etiqueta.charAt( comun ) < cadena.charAt( pos + comun );
+                return hijoMenor ? menores + hijo.cantidad : menores;
+            }
+            pos += comun;
+            nodo = hijo;
+        }
+        // Las demás cadenas del subárbol tienen la cadena como prefijo, así que son mayores
+        return inclusivo && nodo.terminal ? menores + 1 : menores;
+    }
+
+    /**
+     * Suma una cantidad a los conteos de todos los nodos del camino de una cadena que está en el árbol
+     */
+    private void ajustarConteos( String cadena, int cantidad )
+    {
+        Nodo nodo = raiz;
+        nodo.cantidad += cantidad;
+        int pos = 0;
+        while( pos < cadena.length( ) )
+        {
+            nodo = nodo.hijos[ buscarHijo( nodo, cadena.charAt( pos ) ) ];
+            nodo.cantidad += cantidad;
+            pos += nodo.etiqueta.length( );
+        }
+    }
+
+    /**
+     * Busca una cadena recorriendo el árbol desde la raíz
+     */
+    private boolean contiene( String cadena )
+    {
+        Nodo nodo = raiz;
+        int pos = 0;
+        while( pos < cadena.length( ) )
+        {
+            int i = buscarHijo( nodo, cadena.charAt( pos ) );
+            if( i < 0 )
+            {
+                return false;
+            }
+            Nodo hijo = nodo.hijos[ i ];
+            if( !cadena.startsWith( hijo.etiqueta, pos ) )
+            {
+                return false;
+            }
+            pos += hijo.etiqueta.length( );
+            nodo = hijo;
+        }
+        return nodo.terminal;
+    }
+
+    /**
+     * Agrega una cadena. Si la cadena se separa de una etiqueta en la mitad, la etiqueta se parte en dos nodos.
+     */
+    private boolean agregar( String cadena )
+    {
+        Objects.requireNonNull( cadena );
+        // Los conteos del camino se aumentan al pasar; si la cadena ya estaba, se devuelven
+        Nodo nodo = raiz;
+        nodo.cantidad++;
+        int pos = 0;
+        while( pos < cadena.length( ) )
+        {
+            int i = buscarHijo( nodo, cadena.charAt( pos ) );
+            if( i < 0 )
+            {
+                insertarHijo( nodo, -i - 1, new Nodo( cadena.substring( pos ), true ) );
+                tamano++;
+                modificaciones++;
+                return true;
+            }
+            Nodo hijo = nodo.hijos[ i ];
+            int comun = prefijoComun( hijo.etiqueta, cadena, pos );
+            if( comun < hijo.etiqueta.length( ) )
+            {
+                Nodo intermedio = new Nodo( hijo.etiqueta.substring( 0, comun ) );
+                hijo.etiqueta = hijo.etiqueta.substring( comun );
+                intermedio.hijos = new Nodo[]{ hijo };
+                intermedio.cantidad = hijo.cantidad;
+                nodo.hijos[ i ] = intermedio;
+                hijo = intermedio;
+            }
+            pos += hijo.etiqueta.length( );
+            nodo = hijo;
+            nodo.cantidad++;
+        }
+        if( nodo.terminal )
+        {
+            ajustarConteos( cadena, -1 );
+            return false;
+        }
+        nodo.terminal = true;
+        tamano++;
+        modificaciones++;
+        return true;
+    }
+
+    /**
+     * Elimina una cadena. Si un nodo queda sin cadena y con un solo hijo, se une con el hijo para que el árbol siga comprimido.
+     */
+    private boolean eliminar( String cadena )
+    {
+        Objects.requireNonNull( cadena );
+        Nodo padre = null;
+        int indice = -1;
+        Nodo nodo = raiz;
+        int pos = 0;
+        while( pos < cadena.length( ) )
+        {
+            int i = buscarHijo( nodo, cadena.charAt( pos ) );
+            if( i < 0 )
+            {
+                return false;
+            }
+            Nodo hijo = nodo.hijos[ i ];
+            if( !cadena.startsWith( hijo.etiqueta, pos ) )
+            {
+                return false;
+            }
+            pos += hijo.etiqueta.length( );
+            padre = nodo;
+            indice = i;
+            nodo = hijo;
+        }
+        if( !nodo.terminal )
+        {
+            return false;
+        }
+        ajustarConteos( cadena, -1 );
+        nodo.terminal = false;
+        tamano--;
+        modificaciones++;
+
+        if( padre != null )
+        {
+            if( nodo.hijos.length == 0 )
+            {
+                quitarHijo( padre, indice );
+                if( padre != raiz && !padre.terminal && padre.hijos.length == 1 )
+                {
+                    unirConHijo( padre );
+                }
+            }
+            else if( nodo.hijos.length == 1 )
+            {
+                unirConHijo( nodo );
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retorna la menor cadena del conjunto, o null si está vacío
+     */
+    private String primera( )
+    {
+        if( raiz.terminal )
+        {
+            return "";
+        }
+        return raiz.hijos.length == 0 ? null : minimoDesde( raiz.hijos[ 0 ], new StringBuilder( ) );
+    }
+
+    /**
+     * Retorna la mayor cadena del conjunto, o null si está vacío
+     */
+    private String ultima( )
+    {
+        if( raiz.hijos.length == 0 )
+        {
+            return raiz.terminal ? "" : null;
+        }
+        return maximoDesde( raiz.hijos[ raiz.hijos.length - 1 ], new StringBuilder( ) );
+    }
+
+    /**
+     * Retorna la menor cadena del conjunto que es mayor (o igual, si es inclusivo) a la cadena dada, o null si no hay ninguna
+     */
+    private String techo( String cadena, boolean inclusivo )
+    {
+        return techo( raiz, cadena, 0, inclusivo, new StringBuilder( ) );
+    }
+
+    /**
+     * Busca el techo de la cadena dentro del subárbol de un nodo cuyo texto completo es cadena[0, pos), que también es el contenido de prefijo
+     */
+    private String techo( Nodo nodo, String cadena, int pos, boolean inclusivo, StringBuilder prefijo )
+    {
+        if( pos == cadena.length( ) )
+        {
+            if( inclusivo && nodo.terminal )
+            {
+                return cadena;
+            }
+            // Todas las cadenas debajo de este nodo tienen la cadena como prefijo, así que son mayores
+            return nodo.hijos.length == 0 ? null : minimoDesde( nodo.hijos[ 0 ], prefijo );
+        }
+
+        int i = buscarHijo( nodo, cadena.charAt( pos ) );
+        if( i >= 0 )
+        {
+            Nodo hijo = nodo.hijos[ i ];
+            int comun = prefijoComun( hijo.etiqueta, cadena, pos );
+            if( comun == hijo.etiqueta.length( ) )
+            {
+                int largo = prefijo.length( );
+                prefijo.append( hijo.etiqueta );
+                String encontrada = techo( hijo, cadena, pos + comun, inclusivo, prefijo );
+                if( encontrada != null )
+                {
+                    return encontrada;
+                }
+                prefijo.setLength( largo );
+            }
+            else if( pos + comun == cadena.length( ) || hijo.etiqueta.charAt( comun ) > cadena.charAt( pos + comun ) )
+            {
+                // La cadena termina o se separa hacia abajo dentro de la etiqueta: todo el subárbol del hijo es mayor
+                return minimoDesde( hijo, prefijo );
+            }
+            i++;
+        }
+        else
+        {
+            i = -i - 1;
+        }
+        return i < nodo.hijos.length ? minimoDesde( nodo.hijos[ i ], prefijo ) : null;
+    }
+
+    /**
+     * Retorna la mayor cadena del conjunto que es menor (o igual, si es inclusivo) a la cadena dada, o null si no hay ninguna
+     */
+    private String piso( String cadena, boolean inclusivo )
+    {
+        return piso( raiz, cadena, 0, inclusivo, new StringBuilder( ) );
+    }
+
+    /**
+     * Busca el piso de la cadena dentro del subárbol de un nodo cuyo texto completo es cadena[0, pos), que también es el contenido de prefijo
+     */
+    private String piso( Nodo nodo, String cadena, int pos, boolean inclusivo, StringBuilder prefijo )
+    {
+        if( pos == cadena.length( ) )
+        {
+            return inclusivo && nodo.terminal ? cadena : null;
+        }
+
+        int i = buscarHijo( nodo, cadena.charAt( pos ) );
+        if( i >= 0 )
+        {
+            Nodo hijo = nodo.hijos[ i ];
+            int comun = prefijoComun( hijo.etiqueta, cadena, pos );
+            if( comun == hijo.etiqueta.length( ) )
+            {
+                int largo = prefijo.length( );
+                prefijo.append( hijo.etiqueta );
+                String encontrada = piso( hijo, cadena, pos + comun, inclusivo, prefijo );
+                if( encontrada != null )
+                {
+                    return encontrada;
+                }
+                prefijo.setLength( largo );
+            }
+            else if( pos + comun < cadena.length( ) && hijo.etiqueta.charAt( comun ) < cadena.charAt( pos + comun ) )
+            {
+                // La cadena se separa hacia arriba dentro de la etiqueta: todo el subárbol del hijo es menor
+                return maximoDesde( hijo, prefijo );
+            }
+        }
+        else
+        {
+            i = -i - 1;
+        }
+        // Los hijos anteriores a la posición i y el propio nodo son menores que la cadena
+        if( i > 0 )
+        {
+            return maximoDesde( nodo.hijos[ i - 1 ], prefijo );
+        }
+        return nodo.terminal ? prefijo.toString( ) : null;
+    }
+
+    /**
+     * Retorna la menor cadena del subárbol de un nodo que no es la raíz. El prefijo tiene el texto hasta el padre del nodo.
+     */
+    private static String minimoDesde( Nodo nodo, StringBuilder prefijo )
+    {
+        prefijo.append( nodo.etiqueta );
+        while( !nodo.terminal )
+        {
+            nodo = nodo.hijos[ 0 ];
+            prefijo.append( nodo.etiqueta );
+        }
+        return prefijo.toString( );
+    }
+
+    /**
+     * Retorna la mayor cadena del subárbol de un nodo que no es la raíz. El prefijo tiene el texto hasta el padre del nodo.
+     */
+    private static String maximoDesde( Nodo nodo, StringBuilder prefijo )
+    {
+        prefijo.append( nodo.etiqueta );
+        while( nodo.hijos.length > 0 )
+        {
+            nodo = nodo.hijos[ nodo.hijos.length - 1 ];
+            prefijo.append( nodo.etiqueta );
+        }
+        return prefijo.toString( );
+    }
+
+    /**
+     * Busca con búsqueda binaria el hijo cuya etiqueta empieza con un carácter
+     * @return La posición del hijo, o -(posición donde debería ir) - 1 si no existe
+     */
+    private static int buscarHijo( Nodo nodo, char c )
+    {
+        Nodo[] hijos = nodo.hijos;
+        int bajo = 0;
+        int alto = hijos.length - 1;
+        while( bajo <= alto )
+        {
+            int medio = ( bajo + alto ) >>> 1;
+            char actual = hijos[ medio ].etiqueta.charAt( 0 );
+            if( actual < c )
+            {
+                bajo = medio + 1;
+            }
+            else if( actual > c )
+            {
+                alto = medio - 1;
+            }
+            else
+            {
+                return medio;
+            }
+        }
+        return -( bajo + 1 );
+    }
+
+    /**
+     * Cuenta cuántos caracteres de la etiqueta coinciden con la cadena a partir de la posición dada
+     */
+    private static int prefijoComun( String etiqueta, String cadena, int pos )
+    {
+        int maximo = Math.min( etiqueta.length( ), cadena.length( ) - pos );
+        int comun = 0;
+        while( comun < maximo && etiqueta.charAt( comun ) == cadena.charAt( pos + comun ) )
+        {
+            comun++;
+        }
+        return comun;
+    }
+
+    private static void insertarHijo( Nodo nodo, int posicion, Nodo hijo )
+    {
+        Nodo[] hijos = new Nodo[nodo.hijos.length + 1];
+        System.arraycopy( nodo.hijos, 0, hijos, 0, posicion );
+        hijos[ posicion ] = hijo;
+        System.arraycopy( nodo.hijos, posicion, hijos, posicion + 1, nodo.hijos.length - posicion );
+        nodo.hijos = hijos;
+    }
+
+    private static void quitarHijo( Nodo nodo, int posicion )
+    {
+        if( nodo.hijos.length == 1 )
+        {
+            nodo.hijos = SIN_HIJOS;
+            return;
+        }
+        Nodo[] hijos = new Nodo[nodo.hijos.length - 1];
+        System.arraycopy( nodo.hijos, 0, hijos, 0, posicion );
+        System.arraycopy( nodo.hijos, posicion + 1, hijos, posicion, hijos.length - posicion );
+        nodo.hijos = hijos;
+    }
+
+    /**
+     * Deja el arreglo de hijos de un nodo con el tamaño exacto, después de construirlo con espacio de sobra, y calcula la cantidad de cadenas de su subárbol
+     */
+    private static void cerrarNodo( Nodo nodo, int cantidad )
+    {
+        if( nodo.hijos.length != cantidad )
+        {
+            nodo.hijos = cantidad == 0 ? SIN_HIJOS : Arrays.copyOf( nodo.hijos, cantidad );
+        }
+        nodo.cantidad = nodo.terminal ? 1 : 0;
+        for( Nodo hijo : nodo.hijos )
+        {
+            nodo.cantidad += hijo.cantidad;
+        }
+    }
+
+    /**
+     * Une un nodo con su único hijo. El nodo conserva su lugar en el padre porque su etiqueta sigue empezando con el mismo carácter.
+     */
+    private static void unirConHijo( Nodo nodo )
+    {
+        Nodo hijo = nodo.hijos[ 0 ];
+        nodo.etiqueta = nodo.etiqueta + hijo.etiqueta;
+        nodo.terminal = hijo.terminal;
+        nodo.hijos = hijo.hijos;
+        nodo.cantidad = hijo.cantidad;
+    }
+
+    /**
+     * Un nodo del árbol
+     */
+    private static final class Nodo
+    {
+        /**
+         * El fragmento de texto entre el padre y este nodo. Solo la raíz tiene una etiqueta vacía.
+         */
+        private String etiqueta;
+
+        /**
+         * Indica si el texto desde la raíz hasta este nodo es una cadena del conjunto
+         */
+        private boolean terminal;
+
+        /**
+         * La cantidad de cadenas del conjunto que hay en el subárbol de este nodo, incluyendo la del propio nodo si es terminal
+         */
+        private int cantidad;
+
+        /**
+         * Los hijos del nodo, ordenados por el primer carácter de su etiqueta. No hay dos hijos que empiecen con el mismo carácter.
+         */
+        private Nodo[] hijos = SIN_HIJOS;
+
+        private Nodo( String etiqueta )
+        {
+            this.etiqueta = etiqueta;
+        }
+
+        private Nodo( String etiqueta, boolean terminal )
+        {
+            this.etiqueta = etiqueta;
+            this.terminal = terminal;
+            this.cantidad = terminal ? 1 : 0;
+        }
+    }
+
+    /**
+     * Una vista de las cadenas del conjunto que están dentro de un rango, en orden ascendente o descendente. Los cambios en la vista se reflejan en el conjunto y viceversa.
+     *
+     * Los límites del rango siempre están en orden ascendente: desde es el límite inferior y hasta el superior, aunque la vista sea descendente. Un límite null indica que el rango no tiene
+     * límite por ese lado.
+     */
+    private final class Rango extends AbstractSet<String> implements NavigableSet<String>
+    {
+        private final String desde;
+
+        private final boolean incluyeDesde;
+
+        private final String hasta;
+
+        private final boolean incluyeHasta;
+
+        private final boolean descendente;
+
+        private Rango( String desde, boolean incluyeDesde, String hasta, boolean incluyeHasta, boolean descendente )
+        {
+            this.desde = desde;
+            this.incluyeDesde = incluyeDesde;
+            this.hasta = hasta;
+            this.incluyeHasta = incluyeHasta;
+            this.descendente = descendente;
+        }
+
+        @Override
+        public int size( )
+        {
+            // Las cadenas del rango son las que están antes del límite superior pero no antes del inferior
+            int hastaLimite = hasta == null ? tamano : contarMenores( hasta, incluyeHasta );
+            int antesDelRango = desde == null ? 0 : contarMenores( desde, !incluyeDesde );
+            return Math.max( 0, hastaLimite - antesDelRango );
+        }
+
+        @Override
+        public boolean isEmpty( )
+        {
+            return menor( ) == null;
+        }
+
+        @Override
+        public boolean contains( Object o )
+        {
+            String cadena = ( String )o;
+            return enRango( cadena ) && contiene( cadena );
+        }
+
+        @Override
+        public boolean add( String cadena )
+        {
+            if( !enRango( cadena ) )
+            {
+                throw new IllegalArgumentException( "La cadena está por fuera del rango" );
+            }
+            return agregar( cadena );
+        }
+
+        @Override
+        public boolean remove( Object o )
+        {
+            String cadena = ( String )o;
+            return enRango( cadena ) && eliminar( cadena );
+        }
+
+        @Override
+        public void clear( )
+        {
+            if( desde == null && hasta == null )
+            {
+                ConjuntoPrefijos.this.clear( );
+            }
+            else
+            {
+                super.clear( );
+            }
+        }
+
+        @Override
+        public Iterator<String> iterator( )
+        {
+            return new Iterador( descendente ? mayor( ) : menor( ) );
+        }
+
+        @Override
+        public Iterator<String> descendingIterator( )
+        {
+            return descendingSet( ).iterator( );
+        }
+
+        @Override
+        public NavigableSet<String> descendingSet( )
+        {
+            return new Rango( desde, incluyeDesde, hasta, incluyeHasta, !descendente );
+        }
+
+        @Override
+        public Comparator<? super String> comparator( )
+        {
+            return descendente ? Collections.reverseOrder( ) : null;
+        }
+
+        @Override
+        public String first( )
+        {
+            return existente( descendente ? mayor( ) : menor( ) );
+        }
+
+        @Override
+        public String last( )
+        {
+            return existente( descendente ? menor( ) : mayor( ) );
+        }
+
+        @Override
+        public String lower( String cadena )
+        {
+            return descendente ? techoEnRango( cadena, false ) : pisoEnRango( cadena, false );
+        }
+
+        @Override
+        public String floor( String cadena )
+        {
+            return descendente ? techoEnRango( cadena, true ) : pisoEnRango( cadena, true );
+        }
+
+        @Override
+        public String ceiling( String cadena )
+        {
+            return descendente ? pisoEnRango( cadena, true ) : techoEnRango( cadena, true );
+        }
+
+        @Override
+        public String higher( String cadena )
+        {
+            return descendente ? pisoEnRango( cadena, false ) : techoEnRango( cadena, false );
+        }
+
+        @Override
+        public String pollFirst( )
+        {
+            return extraer( descendente ? mayor( ) : menor( ) );
+        }
+
+        @Override
+        public String pollLast( )
+        {
+            return extraer( descendente ? menor( ) : mayor( ) );
+        }
+
+        @Override
+        public NavigableSet<String> subSet( String desde, boolean incluyeDesde, String hasta, boolean incluyeHasta )
+        {
+            Objects.requireNonNull( desde );
+            Objects.requireNonNull( hasta );
+            if( descendente )
+            {
+                return acotar( hasta, incluyeHasta, desde, incluyeDesde );
+            }
+            return acotar( desde, incluyeDesde, hasta, incluyeHasta );
+        }
+
+        @Override
+        public NavigableSet<String> headSet( String hasta, boolean incluyeHasta )
+        {
+            Objects.requireNonNull( hasta );
+            return descendente ? acotar( hasta, incluyeHasta, null, false ) : acotar( null, false, hasta, incluyeHasta );
+        }
+
+        @Override
+        public NavigableSet<String> tailSet( String desde, boolean incluyeDesde )
+        {
+            Objects.requireNonNull( desde );
+            return descendente ? acotar( null, false, desde, incluyeDesde ) : acotar( desde, incluyeDesde, null, false );
+        }
+
+        @Override
+        public SortedSet<String> subSet( String desde, String hasta )
+        {
+            return subSet( desde, true, hasta, false );
+        }
+
+        @Override
+        public SortedSet<String> headSet( String hasta )
+        {
+            return headSet( hasta, false );
+        }
+
+        @Override
+        public SortedSet<String> tailSet( String desde )
+        {
+            return tailSet( desde, true );
+        }
+
+        /**
+         * Crea un rango más estrecho dentro de este. Los límites se dan en orden ascendente y un límite null conserva el límite actual.
+         */
+        private Rango acotar( String bajo, boolean incluyeBajo, String alto, boolean incluyeAlto )
+        {
+            if( bajo != null && !admiteLimite( bajo, incluyeBajo ) || alto != null && !admiteLimite( alto, incluyeAlto ) )
+            {
+                throw new IllegalArgumentException( "El límite está por fuera del rango" );
+            }
+            if( bajo != null && alto != null && bajo.compareTo( alto ) > 0 )
+            {
+                throw new IllegalArgumentException( "El límite inferior es mayor que el superior" );
+            }
+            return new Rango( bajo != null ? bajo : desde, bajo != null ? incluyeBajo : incluyeDesde, alto != null ? alto : hasta, alto != null ? incluyeAlto : incluyeHasta,
+                    descendente );
+        }
+
+        /**
+         * Indica si una cadena se puede usar como límite de un rango dentro de este. Un límite exclusivo puede coincidir con un límite exclusivo de este rango.
+         */
+        private boolean admiteLimite( String limite, boolean inclusivo )
+        {
+            if( inclusivo )
+            {
+                return enRango( limite );
+            }
+            return ( desde == null || limite.compareTo( desde ) >= 0 ) && ( hasta == null || limite.compareTo( hasta ) <= 0 );
+        }
+
+        private boolean demasiadoBaja( String cadena )
+        {
+            if( desde == null )
+            {
+                return false;
+            }
+            int comparacion = cadena.compareTo( desde );
+            return comparacion < 0 || comparacion == 0 && !incluyeDesde;
+        }
+
+        private boolean demasiadoAlta( String cadena )
+        {
+            if( hasta == null )
+            {
+                return false;
+            }
+            int comparacion = cadena.compareTo( hasta );
+            return comparacion > 0 || comparacion == 0 && !incluyeHasta;
+        }
+
+        private boolean enRango( String cadena )
+        {
+            Objects.requireNonNull( cadena );
+            return !demasiadoBaja( cadena ) && !demasiadoAlta( cadena );
+        }
+
+        /**
+         * Retorna la menor cadena del rango, o null si no hay ninguna
+         */
+        private String menor( )
+        {
+            String menor = desde == null ? primera( ) : techo( desde, incluyeDesde );
+            return menor == null || demasiadoAlta( menor ) ? null : menor;
+        }
+
+        /**
+         * Retorna la mayor cadena del rango, o null si no hay ninguna
+         */
+        private String mayor( )
+        {
+            String mayor = hasta == null ? ultima( ) : piso( hasta, incluyeHasta );
+            return mayor == null || demasiadoBaja( mayor ) ? null : mayor;
+        }
+
+        /**
+         * Retorna la menor cadena del rango que es mayor (o igual, si es inclusivo) a la cadena dada
+         */
+        private String techoEnRango( String cadena, boolean inclusivo )
+        {
+            if( demasiadoBaja( cadena ) )
+            {
+                return menor( );
+            }
+            String techo = techo( cadena, inclusivo );
+            return techo == null || demasiadoAlta( techo ) ? null : techo;
+        }
+
+        /**
+         * Retorna la mayor cadena del rango que es menor (o igual, si es inclusivo) a la cadena dada
+         */
+        private String pisoEnRango( String cadena, boolean inclusivo )
+        {
+            if( demasiadoAlta( cadena ) )
+            {
+                return mayor( );
+            }
+            String piso = piso( cadena, inclusivo );
+            return piso == null || demasiadoBaja( piso ) ? null : piso;
+        }
+
+        private String existente( String cadena )
+        {
+            if( cadena == null )
+            {
+                throw new NoSuchElementException( );
+            }
+            return cadena;
+        }
+
+        private String extraer( String cadena )
+        {
+            if( cadena != null )
+            {
+                eliminar( cadena );
+            }
+            return cadena;
+        }
+
+        /**
+         * Un iterador sobre las cadenas del rango.
+         *
+         * El iterador recorre el árbol en profundidad con una pila explícita de nodos y de la posición del siguiente hijo que falta visitar en cada uno, y arma las cadenas en un solo
+         * StringBuilder al que se le agregan y quitan etiquetas al bajar y subir. Como cada nodo entra y sale de la pila una sola vez, recorrer todo el rango cuesta O(tamaño del árbol)
+         * además de armar las cadenas que se retornan, en lugar de buscar cada cadena desde la raíz.
+         *
+         * En orden ascendente un nodo se visita antes que sus hijos, y en orden descendente después de ellos, recorriendo los hijos desde el último. Si se elimina la cadena actual, el
+         * árbol puede cambiar de forma, así que la pila se vuelve a armar bajando desde la raíz hasta la siguiente cadena, que ya se conoce.
+         */
+        private final class Iterador implements Iterator<String>
+        {
+            /**
+             * Los nodos del camino desde la raíz hasta el nodo actual
+             */
+            private Nodo[] nodos = new Nodo[16];
+
+            /**
+             * Para cada nodo de la pila, la posición del siguiente hijo que se visita en orden ascendente, o la cantidad de hijos que faltan por visitar en orden descendente
+             */
+            private int[] indices = new int[16];
+
+            /**
+             * Para cada nodo de la pila, el largo del texto desde la raíz hasta el nodo
+             */
+            private int[] largos = new int[16];
+
+            private int tope = -1;
+
+            /**
+             * El texto desde la raíz hasta el nodo del tope de la pila
+             */
+            private final StringBuilder prefijo = new StringBuilder( );
+
+            /**
+             * Indica si la pila se debe volver a armar hasta la cadena siguiente antes de avanzar
+             */
+            private boolean reubicar = true;
+
+            private String siguiente;
+
+            private String ultima;
+
+            private int modificacionesEsperadas = modificaciones;
+
+            private Iterador( String primera )
+            {
+                siguiente = primera;
+            }
+
+            @Override
+            public boolean hasNext( )
+            {
+                return siguiente != null;
+            }
+
+            @Override
+            public String next( )
+            {
+                if( modificaciones != modificacionesEsperadas )
+                {
+                    throw new ConcurrentModificationException( );
+                }
+                if( siguiente == null )
+                {
+                    throw new NoSuchElementException( );
+                }
+                ultima = siguiente;
+                if( reubicar )
+                {
+                    ubicar( ultima );
+                    reubicar = false;
+                }
+                siguiente = avanzar( );
+                return ultima;
+            }
+
+            @Override
+            public void remove( )
+            {
+                if( ultima == null )
+                {
+                    throw new IllegalStateException( );
+                }
+                if( modificaciones != modificacionesEsperadas )
+                {
+                    throw new ConcurrentModificationException( );
+                }
+                eliminar( ultima );
+                ultima = null;
+                modificacionesEsperadas = modificaciones;
+                reubicar = true;
+            }
+
+            /**
+             * Arma la pila como queda justo después de visitar una cadena del conjunto, bajando por su camino desde la raíz
+             */
+            private void ubicar( String cadena )
+            {
+                tope = -1;
+                prefijo.setLength( 0 );
+                Nodo nodo = raiz;
+                int pos = 0;
+                while( pos < cadena.length( ) )
+                {
+                    int i = buscarHijo( nodo, cadena.charAt( pos ) );
+                    // En orden ascendente faltan los hijos siguientes; en orden descendente, los anteriores y después el propio nodo
+                    apilar( nodo, descendente ? i : i + 1 );
+                    nodo = nodo.hijos[ i ];
+                    pos += nodo.etiqueta.length( );
+                }
+                if( !descendente )
+                {
+                    // Faltan todos los hijos de la cadena. En orden descendente ya se visitaron, y el nodo mismo también.
+                    apilar( nodo, 0 );
+                }
+            }
+
+            /**
+             * Avanza la pila hasta la siguiente cadena del recorrido
+             * @return La siguiente cadena, o null si no hay más cadenas en el rango
+             */
+            private String avanzar( )
+            {
+                String encontrada = descendente ? anteriorEnArbol( ) : siguienteEnArbol( );
+                if( encontrada == null || ( descendente ? demasiadoBaja( encontrada ) : demasiadoAlta( encontrada ) ) )
+                {
+                    // El recorrido terminó; se suelta la pila para no retener los nodos
+                    tope = -1;
+                    return null;
+                }
+                return encontrada;
+            }
+
+            private String siguienteEnArbol( )
+            {
+                while( tope >= 0 )
+                {
+                    Nodo nodo = nodos[ tope ];
+                    int i = indices[ tope ];
+                    if( i < nodo.hijos.length )
+                    {
+                        indices[ tope ] = i + 1;
+                        Nodo hijo = nodo.hijos[ i ];
+                        apilar( hijo, 0 );
+                        if( hijo.terminal )
+                        {
+                            return prefijo.toString( );
+                        }
+                    }
+                    else
+                    {
+                        desapilar( );
+                    }
+                }
+                return null;
+            }
+
+            private String anteriorEnArbol( )
+            {
+                while( tope >= 0 )
+                {
+                    Nodo nodo = nodos[ tope ];
+                    int i = indices[ tope ];
+                    if( i > 0 )
+                    {
+                        indices[ tope ] = i - 1;
+                        Nodo hijo = nodo.hijos[ i - 1 ];
+                        apilar( hijo, hijo.hijos.length );
+                    }
+                    else
+                    {
+                        String encontrada = nodo.terminal ? prefijo.toString( ) : null;
+                        desapilar( );
+                        if( encontrada != null )
+                        {
+                            return encontrada;
+                        }
+                    }
+                }
+                return null;
+            }
+
+            private void apilar( Nodo nodo, int indice )
+            {
+                tope++;
+                if( tope == nodos.length )
+                {
+                    nodos = Arrays.copyOf( nodos, tope * 2 );
+                    indices = Arrays.copyOf( indices, tope * 2 );
+                    largos = Arrays.copyOf( largos, tope * 2 );
+                }
+                prefijo.append( nodo.etiqueta );
+                nodos[ tope ] = nodo;
+                indices[ tope ] = indice;
+                largos[ tope ] = prefijo.length( );
+            }
+
+            private void desapilar( )
+            {
+                nodos[ tope ] = null;
+                tope--;
+                prefijo.setLength( tope >= 0 ? largos[ tope ] : 0 );
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Esta clase cuenta cuántas veces aparece cada cadena en una colección, sin distinguir mayúsculas de minúsculas.
+ *
+ * Es una tabla de hash con direccionamiento abierto y sondeo lineal. El hash de una cadena se calcula sobre sus caracteres convertidos a una misma forma (primero a mayúscula y luego a
+ * minúscula, igual que equalsIgnoreCase), y las llaves se comparan con equalsIgnoreCase. Así, consultar una cadena no tiene que crear una copia en minúsculas.
+ *
+ * Las cadenas null no se cuentan.
+ */
+final class ConteoCadenasSinMayusculas
+{
+    /**
+     * La proporción máxima de casillas ocupadas antes de duplicar la capacidad
+     */
+    private static final float FACTOR_CARGA = 0.5f;
+
+    /**
+     * La cadena que representa a cada casilla: la primera variante que se agregó. Una casilla con null está libre.
+     */
+    private String[] llaves;
+
+    /**
+     * La cantidad de apariciones de la cadena de cada casilla. Siempre es positiva en las casillas ocupadas.
+     */
+    private int[] conteos;
+
+    /**
+     * La cantidad de casillas ocupadas
+     */
+    private int ocupadas;
+
+    /**
+     * La cantidad de casillas ocupadas a partir de la cual se debe crecer la tabla
+     */
+    private int limite;
+
+    /**
+     * Crea un conteo vacío con espacio suficiente para la cantidad de cadenas diferentes esperada
+     * @param cadenasEsperadas La cantidad de cadenas diferentes que se espera contar
+     */
+    ConteoCadenasSinMayusculas( int cadenasEsperadas )
+    {
+        long minima = ( long )Math.ceil( Math.max( 1, cadenasEsperadas ) / FACTOR_CARGA ) + 1;
+        int capacidad = 4;
+        while( capacidad < minima && capacidad < ( 1 << 30 ) )
+        {
+            capacidad <<= 1;
+        }
+        llaves = new String[capacidad];
+        conteos = new int[capacidad];
+        limite = ( int )( capacidad * FACTOR_CARGA );
+    }
+
+    /**
+     * Retorna cuántas veces se ha contado una cadena, sin distinguir mayúsculas de minúsculas
+     * @param cadena La cadena buscada
+     * @return La cantidad de apariciones, o 0 si la cadena no se ha contado
+     */
+    int contar( String cadena )
+    {
+        return conteos[ buscarCasilla( cadena ) ];
+    }
+
+    /**
+     * Suma una cantidad, que puede ser negativa, a las apariciones de una cadena. Si las apariciones llegan a 0 la cadena sale de la tabla.
+     * @param cadena La cadena
+     * @param cantidad La cantidad que se suma a las apariciones de la cadena
+     */
+    void sumar( String cadena, int cantidad )
+    {
+        if( cadena == null || cantidad == 0 )
+        {
+            return;
+        }
+        int casilla = buscarCasilla( cadena );
+        if( llaves[ casilla ] == null )
+        {
+            if( cantidad < 0 )
+            {
+                return;
+            }
+            if( ocupadas >= limite )
+            {
+                crecer( );
+                casilla = buscarCasilla( cadena );
+            }
+            llaves[ casilla ] = cadena;
+            ocupadas++;
+        }
+        conteos[ casilla ] += cantidad;
+        if( conteos[ casilla ] <= 0 )
+        {
+            eliminarCasilla( casilla );
+        }
+    }
+
+    private int buscarCasilla( String cadena )
+    {
+        int mascara = llaves.length - 1;
+        int casilla = hash( cadena ) & mascara;
+        while( llaves[ casilla ] != null && !llaves[ casilla ].equalsIgnoreCase( cadena ) )
+        {
+            casilla = ( casilla + 1 ) & mascara;
+        }
+        return casilla;
+    }
+
+    /**
+     * Libera una casilla y corre hacia atrás las llaves siguientes que quedarían inalcanzables, para no tener que marcar casillas como borradas
+     */
+    private void eliminarCasilla( int casilla )
+    {
+        int mascara = llaves.length - 1;
+        int libre = casilla;
+        llaves[ libre ] = null;
+        conteos[ libre ] = 0;
+        ocupadas--;
+
+        int actual = ( libre + 1 ) & mascara;
+        while( llaves[ actual ] != null )
+        {
+            int ideal = hash( llaves[ actual ] ) & mascara;
+            // La llave se puede correr si la casilla libre está entre su casilla ideal y su casilla actual
+            if( ( ( actual - ideal ) & mascara ) >= ( ( actual - libre ) & mascara ) )
+            {
+                llaves[ libre ] = llaves[ actual ];
+                conteos[ libre ] = conteos[ actual ];
+                llaves[ actual ] = null;
+                conteos[ actual ] = 0;
+                libre = actual;
+            }
+            actual = ( actual + 1 ) & mascara;
+        }
+    }
+
+    private void crecer( )
+    {
+        String[] llavesAnteriores = llaves;
+        int[] conteosAnteriores = conteos;
+        llaves = new String[llavesAnteriores.length * 2];
+        conteos = new int[llavesAnteriores.length * 2];
+        limite = ( int )( llaves.length * FACTOR_CARGA );
+        for( int i = 0; i < llavesAnteriores.length; i++ )
+        {
+            if( llavesAnteriores[ i ] != null )
+            {
+                int casilla = buscarCasilla( llavesAnteriores[ i ] );
+                llaves[ casilla ] = llavesAnteriores[ i ];
+                conteos[ casilla ] = conteosAnteriores[ i ];
+            }
+        }
+    }
+
+    /**
+     * Calcula el hash de una cadena sobre sus caracteres convertidos a mayúscula y luego a minúscula, así que dos cadenas iguales según equalsIgnoreCase tienen el mismo hash
+     */
+    static int hash( String cadena )
+    {
+        int h = 0;
+        for( int i = 0; i < cadena.length( ); i++ )
+        {
+            h = 31 * h + Character.toLowerCase( Character.toUpperCase( cadena.charAt( i ) ) );
+        }
+        h *= 0x9E3779B9;
+        return h ^ ( h >>> 16 );
+    }
+}
@@ -0,0 +1,131 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Esta clase cuenta las apariciones de los valores de un arreglo de enteros repartiendo el trabajo entre los hilos del ForkJoinPool común.
+ *
+ * El rango de posiciones se divide en partes, cada parte se cuenta por separado y luego los conteos parciales se combinan.
+ */
+class ConteoParaleloEnteros
+{
+    private ConteoParaleloEnteros( )
+    {
+    }
+
+    /**
+     * Cuenta las apariciones de cada valor en las posiciones [desde, hasta) de un arreglo cuyos valores están todos en [minimo, maximo]
+     * @return Un arreglo donde la posición i tiene la cantidad de veces que aparece el valor minimo + i
+     */
+    static int[] contarEnRango( int[] valores, int desde, int hasta, int minimo, int maximo )
+    {
+        int tamanoRango = maximo - minimo + 1;
+        // Cada parte necesita su propio arreglo de conteos, así que solo se divide cuando hay varios valores por casilla
+        long partes = Math.min( ForkJoinPool.getCommonPoolParallelism( ), Math.max( 1, ( hasta - desde ) / tamanoRango ) );
+        int tamanoParte = ( int )Math.max( 1, ( hasta - desde ) / partes );
+        return ForkJoinPool.commonPool( ).invoke( new ConteoDenso( valores, desde, hasta, minimo, tamanoRango, tamanoParte ) );
+    }
+
+    /**
+     * Cuenta las apariciones de cada valor en las posiciones [desde, hasta) de un arreglo
+     * @return Una tabla con la cantidad de veces que aparece cada valor
+     */
+    static TablaHashEnteros contarEnTabla( int[] valores, int desde, int hasta )
+    {
+        int tamanoParte = Math.max( 1, ( hasta - desde ) / ForkJoinPool.getCommonPoolParallelism( ) );
+        return ForkJoinPool.commonPool( ).invoke( new ConteoDisperso( valores, desde, hasta, tamanoParte ) );
+    }
+
+    private static class ConteoDenso extends RecursiveTask<int[]>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] valores;
+        private final int desde;
+        private final int hasta;
+        private final int minimo;
+        private final int tamanoRango;
+        private final int tamanoParte;
+
+        ConteoDenso( int[] valores, int desde, int hasta, int minimo, int tamanoRango, int tamanoParte )
+        {
+            this.valores = valores;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.minimo = minimo;
+            this.tamanoRango = tamanoRango;
+            this.tamanoParte = tamanoParte;
+        }
+
+        @Override
+        protected int[] compute( )
+        {
+            if( hasta - desde <= tamanoParte )
+            {
+                int[] conteos = new int[tamanoRango];
+                for( int i = desde; i < hasta; i++ )
+                {
+                    conteos[ valores[ i ] - minimo ]++;
+                }
+                return conteos;
+            }
+
+            int medio = ( desde + hasta ) >>> 1;
+            ConteoDenso izquierda = new ConteoDenso( valores, desde, medio, minimo, tamanoRango, tamanoParte );
+            izquierda.fork( );
+            int[] conteos = new ConteoDenso( valores, medio, hasta, minimo, tamanoRango, tamanoParte ).compute( );
+            int[] conteosIzquierda = izquierda.join( );
+            for( int i = 0; i < conteos.length; i++ )
+            {
+                conteos[ i ] += conteosIzquierda[ i ];
+            }
+            return conteos;
+        }
+    }
+
+    private static class ConteoDisperso extends RecursiveTask<TablaHashEnteros>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] valores;
+        private final int desde;
+        private final int hasta;
+        private final int tamanoParte;
+
+        ConteoDisperso( int[] valores, int desde, int hasta, int tamanoParte )
+        {
+            this.valores = valores;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.tamanoParte = tamanoParte;
+        }
+
+        @Override
+        protected TablaHashEnteros compute( )
+        {
+            if( hasta - desde <= tamanoParte )
+            {
+                TablaHashEnteros conteos = new TablaHashEnteros( );
+                for( int i = desde; i < hasta; i++ )
+                {
+                    conteos.incrementar( valores[ i ] );
+                }
+                return conteos;
+            }
+
+            int medio = ( desde + hasta ) >>> 1;
+            ConteoDisperso izquierda = new ConteoDisperso( valores, desde, medio, tamanoParte );
+            izquierda.fork( );
+            TablaHashEnteros conteos = new ConteoDisperso( valores, medio, hasta, tamanoParte ).compute( );
+            TablaHashEnteros conteosIzquierda = izquierda.join( );
+            if( conteosIzquierda.getCantidadLlaves( ) > conteos.getCantidadLlaves( ) )
+            {
+                conteosIzquierda.sumarTodo( conteos );
+                return conteosIzquierda;
+            }
+            conteos.sumarTodo( conteosIzquierda );
+            return conteos;
+        }
+    }
+}
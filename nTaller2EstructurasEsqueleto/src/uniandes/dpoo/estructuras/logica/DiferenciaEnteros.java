@@ -0,0 +1,75 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Esta clase busca la primera posición en la que dos arreglos de enteros son diferentes.
+ *
+ * A partir de Java 9, Arrays.mismatch hace esta comparación con instrucciones vectoriales (SIMD) que revisan varios enteros a la vez. El proyecto compila para Java 8, así que el método se
+ * busca al cargar la clase y, si la máquina virtual no lo tiene, se usa un recorrido normal.
+ */
+final class DiferenciaEnteros
+{
+    /**
+     * El método Arrays.mismatch(int[], int, int, int[], int, int), o null si la máquina virtual no lo tiene
+     */
+    private static final MethodHandle MISMATCH = buscarMismatch( );
+
+    private DiferenciaEnteros( )
+    {
+    }
+
+    /**
+     * Retorna la primera posición en la que difieren las primeras posiciones de dos arreglos.
+     *
+     * Si una parte es prefijo de la otra, la primera diferencia es la cantidad de la parte más corta.
+     * @param a El primer arreglo
+     * @param cantidadA La cantidad de posiciones del primer arreglo que se comparan
+     * @param b El segundo arreglo
+     * @param cantidadB La cantidad de posiciones del segundo arreglo que se comparan
+     * @return La primera posición diferente, o -1 si las dos partes son iguales
+     */
+    static int primeraDiferencia( int[] a, int cantidadA, int[] b, int cantidadB )
+    {
+        if( MISMATCH != null )
+        {
+            try
+            {
+                return ( int )MISMATCH.invokeExact( a, 0, cantidadA, b, 0, cantidadB );
+            }
+            catch( RuntimeException | Error e )
+            {
+                throw e;
+            }
+            catch( Throwable e )
+            {
+                throw new IllegalStateException( e );
+            }
+        }
+
+        int cantidad = Math.min( cantidadA, cantidadB );
+        for( int i = 0; i < cantidad; i++ )
+        {
+            if( a[ i ] != b[ i ] )
+            {
+                return i;
+            }
+        }
+        return cantidadA == cantidadB ? -1 : cantidad;
+    }
+
+    private static MethodHandle buscarMismatch( )
+    {
+        try
+        {
+            MethodType tipo = MethodType.methodType( int.class, int[].class, int.class, int.class, int[].class, int.class, int.class );
+            return MethodHandles.publicLookup( ).findStatic( java.util.Arrays.class, "mismatch", tipo );
+        }
+        catch( NoSuchMethodException | IllegalAccessException e )
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Esta clase representa una edición por posición sobre una lista de enteros: insertar un valor en una posición o eliminar el valor de una posición.
+ *
+ * Las ediciones se aplican en grupo con SandboxListas.aplicarEdiciones. Todas las posiciones de un grupo se refieren a la lista como estaba antes de aplicar el grupo, así que el resultado
+ * no depende del orden en el que se apliquen las ediciones, salvo el orden relativo de varias inserciones en la misma posición.
+ *
+ * Las instancias de esta clase son inmutables.
+ */
+public final class Edicion
+{
+    /**
+     * Indica si la edición es una inserción. Si es falso, la edición es una eliminación.
+     */
+    private final boolean insercion;
+
+    /**
+     * La posición, en la lista original, donde se inserta o de donde se elimina
+     */
+    private final int posicion;
+
+    /**
+     * El valor que se inserta. No se usa en las eliminaciones.
+     */
+    private final int valor;
+
+    private Edicion( boolean insercion, int posicion, int valor )
+    {
+        this.insercion = insercion;
+        this.posicion = posicion;
+        this.valor = valor;
+    }
+
+    /**
+     * Crea una edición que inserta un valor antes del elemento que estaba en la posición indicada.
+     *
+     * Igual que en insertarEntero, si la posición es negativa el valor queda al principio y si es mayor o igual al tamaño de la lista queda al final.
+     * @param posicion La posición en la lista original
+     * @param valor El valor que se inserta
+     * @return La edición
+     */
+    public static Edicion insercion( int posicion, int valor )
+    {
+        return new Edicion( true, posicion, valor );
+    }
+
+    /**
+     * Crea una edición que elimina el elemento que estaba en la posición indicada.
+     *
+     * Igual que en eliminarEnteroPorPosicion, si la posición no existe la edición no tiene efecto. Eliminar varias veces la misma posición la elimina una sola vez.
+     * @param posicion La posición en la lista original
+     * @return La edición
+     */
+    public static Edicion eliminacion( int posicion )
+    {
+        return new Edicion( false, posicion, 0 );
+    }
+
+    /**
+     * Indica si la edición es una inserción
+     * @return True si es una inserción, false si es una eliminación
+     */
+    public boolean esInsercion( )
+    {
+        return insercion;
+    }
+
+    /**
+     * Retorna la posición de la edición en la lista original
+     * @return La posición
+     */
+    public int getPosicion( )
+    {
+        return posicion;
+    }
+
+    /**
+     * Retorna el valor que inserta la edición
+     * @return El valor insertado, o 0 si la edición es una eliminación
+     */
+    public int getValor( )
+    {
+        return valor;
+    }
+
+    @Override
+    public String toString( )
+    {
+        return insercion ? "Edicion[insertar " + valor + " en " + posicion + "]" : "Edicion[eliminar " + posicion + "]";
+    }
+}
@@ -0,0 +1,222 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.List;
+
+/**
+ * Esta clase agrupa las estadísticas básicas de una colección de enteros: cantidad, mínimo, máximo, suma, promedio y varianza.
+ *
+ * Todas las estadísticas se calculan en un único recorrido sobre los valores, sin crear estructuras intermedias.
+ *
+ * Si la colección está vacía, la cantidad es 0 y todas las demás estadísticas también son 0.
+ */
+public class EstadisticasEnteros
+{
+    /**
+     * Las estadísticas de una colección sin valores
+     */
+    public static final EstadisticasEnteros VACIAS = new EstadisticasEnteros( 0, 0, 0, 0, 0 );
+
+    /**
+     * La cantidad de valores considerados
+     */
+    private final int cantidad;
+
+    /**
+     * El menor de los valores
+     */
+    private final int minimo;
+
+    /**
+     * El mayor de los valores
+     */
+    private final int maximo;
+
+    /**
+     * La suma de todos los valores
+     */
+    private final long suma;
+
+    /**
+     * La varianza poblacional de los valores
+     */
+    private final double varianza;
+
+    private EstadisticasEnteros( int cantidad, int minimo, int maximo, long suma, double varianza )
+    {
+        this.cantidad = cantidad;
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.suma = suma;
+        this.varianza = varianza;
+    }
+
+    /**
+     * Calcula las estadísticas de las posiciones [desde, hasta) de un arreglo de enteros
+     * @param valores El arreglo con los valores
+     * @param desde La primera posición que se debe considerar
+     * @param hasta La posición siguiente a la última que se debe considerar
+     * @return Las estadísticas de los valores en el rango
+     */
+    public static EstadisticasEnteros calcular( int[] valores, int desde, int hasta )
+    {
+        int cantidad = hasta - desde;
+        if( cantidad <= 0 )
+        {
+            return VACIAS;
+        }
+
+        // Las desviaciones se acumulan respecto al primer valor para que la varianza no pierda precisión
+        // cuando los valores son grandes pero están cerca entre sí.
+        long referencia = valores[ desde ];
+
+        // Cuatro acumuladores independientes para que las iteraciones del ciclo no dependan unas de otras
+        int min0 = valores[ desde ], min1 = min0, min2 = min0, min3 = min0;
+        int max0 = min0, max1 = min0, max2 = min0, max3 = min0;
+        long suma0 = 0, suma1 = 0, suma2 = 0, suma3 = 0;
+        double cuadrados0 = 0, cuadrados1 = 0, cuadrados2 = 0, cuadrados3 = 0;
+
+        int i = desde;
+        int limite = hasta - 3;
+        for( ; i < limite; i += 4 )
+        {
+            int v0 = valores[ i ];
+            int v1 = valores[ i + 1 ];
+            int v2 = valores[ i + 2 ];
+            int v3 = valores[ i + 3 ];
+
+            min0 = Math.min( min0, v0 );
+            min1 = Math.min( min1, v1 );
+            min2 = Math.min( min2, v2 );
+            min3 = Math.min( min3, v3 );
+            max0 = Math.max( max0, v0 );
+            max1 = Math.max( max1, v1 );
+            max2 = Math.max( max2, v2 );
+            max3 = Math.max( max3, v3 );
+
+            long d0 = v0 - referencia;
+            long d1 = v1 - referencia;
+            long d2 = v2 - referencia;
+            long d3 = v3 - referencia;
+            suma0 += d0;
+            suma1 += d1;
+            suma2 += d2;
+            suma3 += d3;
+            cuadrados0 += ( double )d0 * d0;
+            cuadrados1 += ( double )d1 * d1;
+            cuadrados2 += ( double )d2 * d2;
+            cuadrados3 += ( double )d3 * d3;
+        }
+        for( ; i < hasta; i++ )
+        {
+            int v = valores[ i ];
+            min0 = Math.min( min0, v );
+            max0 = Math.max( max0, v );
+            long d = v - referencia;
+            suma0 += d;
+            cuadrados0 += ( double )d * d;
+        }
+
+        int minimo = Math.min( Math.min( min0, min1 ), Math.min( min2, min3 ) );
+        int maximo = Math.max( Math.max( max0, max1 ), Math.max( max2, max3 ) );
+        long sumaDesviaciones = suma0 + suma1 + suma2 + suma3;
+        double sumaCuadrados = cuadrados0 + cuadrados1 + cuadrados2 + cuadrados3;
+
+        double promedioDesviaciones = ( double )sumaDesviaciones / cantidad;
+        double varianza = Math.max( 0, sumaCuadrados / cantidad - promedioDesviaciones * promedioDesviaciones );
+
+        return new EstadisticasEnteros( cantidad, minimo, maximo, sumaDesviaciones + referencia * cantidad, varianza );
+    }
+
+    /**
+     * Calcula las estadísticas de todos los valores de una lista de enteros
+     * @param valores La lista con los valores
+     * @return Las estadísticas de los valores de la lista
+     */
+    public static EstadisticasEnteros calcular( List<Integer> valores )
+    {
+        int cantidad = valores.size( );
+        if( cantidad == 0 )
+        {
+            return VACIAS;
+        }
+
+        long referencia = valores.get( 0 );
+        int minimo = valores.get( 0 );
+        int maximo = minimo;
+        long sumaDesviaciones = 0;
+        double sumaCuadrados = 0;
+        for( int valor : valores )
+        {
+            minimo = Math.min( minimo, valor );
+            maximo = Math.max( maximo, valor );
+            long d = valor - referencia;
+            sumaDesviaciones += d;
+            sumaCuadrados += ( double )d * d;
+        }
+
+        double promedioDesviaciones = ( double )sumaDesviaciones / cantidad;
+        double varianza = Math.max( 0, sumaCuadrados / cantidad - promedioDesviaciones * promedioDesviaciones );
+
+        return new EstadisticasEnteros( cantidad, minimo, maximo, sumaDesviaciones + referencia * cantidad, varianza );
+    }
+
+    /**
+     * Retorna la cantidad de valores considerados
+     * @return La cantidad de valores
+     */
+    public int getCantidad( )
+    {
+        return cantidad;
+    }
+
+    /**
+     * Retorna el menor de los valores
+     * @return El valor mínimo, o 0 si no hay valores
+     */
+    public int getMinimo( )
+    {
+        return minimo;
+    }
+
+    /**
+     * Retorna el mayor de los valores
+     * @return El valor máximo, o 0 si no hay valores
+     */
+    public int getMaximo( )
+    {
+        return maximo;
+    }
+
+    /**
+     * Retorna la suma de los valores
+     * @return La suma de los valores
+     */
+    public long getSuma( )
+    {
+        return suma;
+    }
+
+    /**
+     * Retorna el promedio de los valores
+     * @return El promedio de los valores, o 0 si no hay valores
+     */
+    public double getPromedio( )
+    {
+        return cantidad == 0 ? 0 : ( double )suma / cantidad;
+    }
+
+    /**
+     * Retorna la varianza poblacional de los valores
+     * @return La varianza de los valores, o 0 si no hay valores
+     */
+    public double getVarianza( )
+    {
+        return varianza;
+    }
+
+    @Override
+    public String toString( )
+    {
+        return "EstadisticasEnteros[cantidad=" + cantidad + ", minimo=" + minimo + ", maximo=" + maximo + ", suma=" + suma + ", promedio=" + getPromedio( ) + ", varianza=" + varianza + "]";
+    }
+}
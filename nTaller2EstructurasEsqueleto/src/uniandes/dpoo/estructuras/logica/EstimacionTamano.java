@@ -0,0 +1,40 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Spliterator;
+
+/**
+ * Esta clase calcula con cuánta capacidad conviene crear una estructura que se va a llenar con los elementos de un Spliterator.
+ *
+ * Los métodos reiniciar que reciben un Iterator, un Spliterator o un Stream la usan para reservar la memoria una sola vez cuando la fuente conoce su tamaño, en lugar de hacer crecer la
+ * estructura varias veces mientras la recorren.
+ */
+final class EstimacionTamano
+{
+    /**
+     * La mayor capacidad que se reserva para un arreglo
+     */
+    static final int CAPACIDAD_MAXIMA = Integer.MAX_VALUE - 8;
+
+    private EstimacionTamano( )
+    {
+    }
+
+    /**
+     * Retorna la capacidad inicial para los elementos de una fuente.
+     *
+     * Solo se confía en el tamaño de las fuentes que lo conocen exactamente (SIZED). Las demás fuentes usan el mínimo: la estimación de un flujo filtrado, por ejemplo, es el tamaño del
+     * flujo original y podría reservar mucha más memoria de la que se llena.
+     * @param fuente La fuente de los elementos. No se consume.
+     * @param minimo La capacidad que se usa cuando la fuente no conoce su tamaño exacto
+     * @return La capacidad inicial
+     */
+    static int capacidadInicial( Spliterator<?> fuente, int minimo )
+    {
+        long exacto = fuente.getExactSizeIfKnown( );
+        if( exacto < 0 )
+        {
+            return minimo;
+        }
+        return ( int )Math.min( Math.max( exacto, minimo ), CAPACIDAD_MAXIMA );
+    }
+}
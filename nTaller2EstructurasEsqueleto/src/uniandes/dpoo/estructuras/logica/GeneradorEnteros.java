@@ -0,0 +1,115 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Esta clase genera enteros aleatorios distribuidos uniformemente usando un SplittableRandom, que no tiene que sincronizarse entre hilos como Math.random().
+ *
+ * Los valores se generan por bloques de tamaño fijo y cada bloque usa su propio generador, derivado del generador principal. Por eso, para una misma semilla, la secuencia generada es
+ * siempre la misma, sin importar si el llenado se hace en paralelo o no.
+ *
+ * Las instancias de esta clase no deben ser usadas por varios hilos al mismo tiempo.
+ */
+public class GeneradorEnteros
+{
+    /**
+     * La cantidad de valores que se generan con cada generador derivado
+     */
+    private static final int TAMANO_BLOQUE = 4096;
+
+    /**
+     * La cantidad de valores a partir de la cual conviene llenar un arreglo en paralelo
+     */
+    public static final int UMBRAL_PARALELO = 1 << 16;
+
+    /**
+     * El generador principal, del que se deriva un generador para cada bloque
+     */
+    private final SplittableRandom generador;
+
+    /**
+     * Crea un generador con una semilla arbitraria, así que cada instancia produce una secuencia diferente
+     */
+    public GeneradorEnteros( )
+    {
+        generador = new SplittableRandom( );
+    }
+
+    /**
+     * Crea un generador que siempre produce la misma secuencia para la misma semilla
+     * @param semilla La semilla del generador
+     */
+    public GeneradorEnteros( long semilla )
+    {
+        generador = new SplittableRandom( semilla );
+    }
+
+    /**
+     * Llena las posiciones [desde, hasta) de un arreglo con valores aleatorios entre minimo y maximo (incluidos).
+     *
+     * Si el rango de posiciones es vacío no se llena nada, así que no importa que el mínimo sea mayor al máximo.
+     * @param destino El arreglo que se va a llenar
+     * @param desde La primera posición que se llena
+     * @param hasta La posición siguiente a la última que se llena
+     * @param minimo El valor mínimo que se puede generar
+     * @param maximo El valor máximo que se puede generar
+     * @param enParalelo Indica si los bloques se deben llenar en paralelo
+     */
+    public void llenar( int[] destino, int desde, int hasta, int minimo, int maximo, boolean enParalelo )
+    {
+        if( desde >= hasta )
+        {
+            return;
+        }
+        if( minimo > maximo )
+        {
+            throw new IllegalArgumentException( "El mínimo (" + minimo + ") no puede ser mayor al máximo (" + maximo + ")" );
+        }
+
+        int cantidadBloques = ( int )( ( ( long )hasta - desde + TAMANO_BLOQUE - 1 ) / TAMANO_BLOQUE );
+        SplittableRandom[] generadores = new SplittableRandom[cantidadBloques];
+        for( int i = 0; i < cantidadBloques; i++ )
+        {
+            generadores[ i ] = generador.split( );
+        }
+
+        IntStream bloques = IntStream.range( 0, cantidadBloques );
+        if( enParalelo )
+        {
+            bloques = bloques.parallel( );
+        }
+        bloques.forEach( bloque -> {
+            SplittableRandom aleatorio = generadores[ bloque ];
+            int inicio = desde + bloque * TAMANO_BLOQUE;
+            int fin = Math.min( hasta, inicio + TAMANO_BLOQUE );
+            for( int i = inicio; i < fin; i++ )
+            {
+                destino[ i ] = siguiente( aleatorio, minimo, maximo );
+            }
+        } );
+    }
+
+    /**
+     * Genera un arreglo nuevo con valores aleatorios entre minimo y maximo (incluidos)
+     * @param cantidad La cantidad de valores que se deben generar
+     * @param minimo El valor mínimo que se puede generar
+     * @param maximo El valor máximo que se puede generar
+     * @return Un arreglo con los valores generados
+     */
+    public int[] generar( int cantidad, int minimo, int maximo )
+    {
+        int[] valores = new int[cantidad];
+        llenar( valores, 0, cantidad, minimo, maximo, cantidad >= UMBRAL_PARALELO );
+        return valores;
+    }
+
+    private static int siguiente( SplittableRandom aleatorio, int minimo, int maximo )
+    {
+        if( maximo < Integer.MAX_VALUE )
+        {
+            return aleatorio.nextInt( minimo, maximo + 1 );
+        }
+        return ( int )aleatorio.nextLong( minimo, maximo + 1L );
+    }
+}
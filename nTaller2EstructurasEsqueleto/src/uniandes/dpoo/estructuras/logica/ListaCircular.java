@@ -0,0 +1,445 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * Esta clase es una lista que guarda sus elementos en un arreglo circular: los elementos ocupan posiciones consecutivas del arreglo, pero la primera posición lógica puede estar en cualquier
+ * lugar y la lista continúa desde el principio del arreglo cuando llega al final.
+ *
+ * Agregar o eliminar elementos al principio o al final de la lista cuesta O(1) amortizado, igual que en una LinkedList, pero cada elemento ocupa solo la referencia dentro del arreglo (4 a 8
+ * bytes) en lugar de un nodo de unos 40 bytes. Además, recorrer la lista visita memoria contigua y ordenarla no necesita copiarla a otra estructura.
+ *
+ * Insertar o eliminar en la mitad corre los elementos del lado más corto.
+ *
+ * El método instantanea() retorna una vista de solo lectura que comparte el arreglo con la lista, sin copiarlo. Si después la lista tiene que escribir en una casilla que ve alguna
+ * instantánea, primero copia el arreglo (copia al escribir). Agregar elementos al final casi nunca obliga a copiar.
+ * @param <E> El tipo de los elementos de la lista
+ */
+public class ListaCircular<E> extends AbstractList<E> implements RandomAccess
+{
+    /**
+     * La capacidad mínima del arreglo. Siempre es una potencia de 2.
+     */
+    private static final int CAPACIDAD_MINIMA = 8;
+
+    /**
+     * El arreglo con los elementos. Su tamaño siempre es una potencia de 2, así que la posición real de un elemento se calcula con una máscara.
+     */
+    private Object[] elementos;
+
+    /**
+     * La posición del arreglo donde está el primer elemento de la lista
+     */
+    private int inicio;
+
+    /**
+     * La cantidad de elementos de la lista
+     */
+    private int tamano;
+
+    /**
+     * La cantidad de casillas, desde inicioCompartido, que ven las instantáneas que comparten el arreglo. Escribir en ellas obliga a copiar el arreglo antes.
+     */
+    private int compartidas;
+
+    /**
+     * La primera casilla del arreglo que ven las instantáneas
+     */
+    private int inicioCompartido;
+
+    /**
+     * La última instantánea creada. Se vuelve a retornar mientras la lista no cambie.
+     */
+    private Instantanea<E> ultimaInstantanea;
+
+    /**
+     * Crea una lista vacía
+     */
+    public ListaCircular( )
+    {
+        elementos = new Object[CAPACIDAD_MINIMA];
+    }
+
+    /**
+     * Crea una lista vacía con espacio para la cantidad de elementos indicada
+     * @param capacidadInicial La cantidad de elementos que se pueden agregar sin que la lista tenga que crecer
+     */
+    public ListaCircular( int capacidadInicial )
+    {
+        elementos = new Object[capacidadPara( capacidadInicial )];
+    }
+
+    /**
+     * Crea una lista con los elementos de una colección, en el orden en que los retorna su iterador
+     * @param coleccion La colección con los elementos iniciales
+     */
+    public ListaCircular( Collection<? extends E> coleccion )
+    {
+        elementos = new Object[capacidadPara( coleccion.size( ) )];
+        for( E elemento : coleccion )
+        {
+            elementos[ tamano++ ] = elemento;
+        }
+    }
+
+    @Override
+    public int size( )
+    {
+        return tamano;
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public E get( int posicion )
+    {
+        verificarPosicion( posicion );
+        return ( E )elementos[ real( posicion ) ];
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public E set( int posicion, E elemento )
+    {
+        verificarPosicion( posicion );
+        // Si se copia el arreglo la casilla cambia, así que se calcula después
+        antesDeEscribir( real( posicion ) );
+        int real = real( posicion );
+        E anterior = ( E )elementos[ real ];
+        elementos[ real ] = elemento;
+        return anterior;
+    }
+
+    @Override
+    public boolean add( E elemento )
+    {
+        asegurarCapacidad( tamano + 1 );
+        antesDeEscribir( real( tamano ) );
+        elementos[ real( tamano ) ] = elemento;
+        tamano++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add( int posicion, E elemento )
+    {
+        if( posicion < 0 || posicion > tamano )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamano );
+        }
+        if( posicion == 0 )
+        {
+            // Agregar al principio es O(1) amortizado: solo se corre el inicio hacia atrás
+            asegurarCapacidad( tamano + 1 );
+            antesDeEscribir( real( -1 ) );
+            inicio = ( inicio - 1 ) & ( elementos.length - 1 );
+            elementos[ inicio ] = elemento;
+            tamano++;
+            modCount++;
+            return;
+        }
+
+        asegurarCapacidad( tamano + 1 );
+        separar( );
+        if( posicion < tamano - posicion )
+        {
+            // Es más corto correr hacia atrás los elementos anteriores a la posición
+            inicio = ( inicio - 1 ) & ( elementos.length - 1 );
+            for( int i = 0; i < posicion; i++ )
+            {
+                elementos[ real( i ) ] = elementos[ real( i + 1 ) ];
+            }
+        }
+        else
+        {
+            for( int i = tamano; i > posicion; i-- )
+            {
+                elementos[ real( i ) ] = elementos[ real( i - 1 ) ];
+            }
+        }
+        elementos[ real( posicion ) ] = elemento;
+        tamano++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public E remove( int posicion )
+    {
+        verificarPosicion( posicion );
+        separar( );
+        E eliminado = ( E )elementos[ real( posicion ) ];
+        if( posicion < tamano - 1 - posicion )
+        {
+            for( int i = posicion; i > 0; i-- )
+            {
+                elementos[ real( i ) ] = elementos[ real( i - 1 ) ];
+            }
+            elementos[ inicio ] = null;
+            inicio = ( inicio + 1 ) & ( elementos.length - 1 );
+        }
+        else
+        {
+            for( int i = posicion; i < tamano - 1; i++ )
+            {
+                elementos[ real( i ) ] = elementos[ real( i + 1 ) ];
+            }
+            elementos[ real( tamano - 1 ) ] = null;
+        }
+        tamano--;
+        modCount++;
+        return eliminado;
+    }
+
+    /**
+     * Elimina todos los elementos que cumplen una condición, en un solo recorrido que corre hacia adelante los elementos que se conservan
+     */
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public boolean removeIf( Predicate<? super E> condicion )
+    {
+        // Hasta el primer elemento que se elimina no se escribe nada
+        int destino = 0;
+        while( destino < tamano && !condicion.test( ( E )elementos[ real( destino ) ] ) )
+        {
+            destino++;
+        }
+        if( destino == tamano )
+        {
+            return false;
+        }
+
+        separar( );
+        for( int i = destino + 1; i < tamano; i++ )
+        {
+            E elemento = ( E )elementos[ real( i ) ];
+            if( !condicion.test( elemento ) )
+            {
+                elementos[ real( destino++ ) ] = elemento;
+            }
+        }
+        for( int i = destino; i < tamano; i++ )
+        {
+            elementos[ real( i ) ] = null;
+        }
+        tamano = destino;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear( )
+    {
+        if( compartidas > 0 )
+        {
+            elementos = new Object[elementos.length];
+            compartidas = 0;
+        }
+        else
+        {
+            Arrays.fill( elementos, null );
+        }
+        inicio = 0;
+        tamano = 0;
+        modCount++;
+    }
+
+    /**
+     * Ordena la lista directamente sobre su arreglo, sin copiarla a otra estructura
+     */
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public void sort( Comparator<? super E> comparador )
+    {
+        separar( );
+        hacerContigua( );
+        Arrays.sort( ( E[] )elementos, 0, tamano, comparador );
+        modCount++;
+    }
+
+    @Override
+    public Object[] toArray( )
+    {
+        Object[] arreglo = new Object[tamano];
+        copiarEn( arreglo );
+        return arreglo;
+    }
+
+    /**
+     * Copia los elementos, en orden, al principio del arreglo dado
+     */
+    private void copiarEn( Object[] destino )
+    {
+        int primeraParte = Math.min( tamano, elementos.length - inicio );
+        System.arraycopy( elementos, inicio, destino, 0, primeraParte );
+        System.arraycopy( elementos, 0, destino, primeraParte, tamano - primeraParte );
+    }
+
+    /**
+     * Reorganiza el arreglo para que el primer elemento quede en la posición 0
+     */
+    private void hacerContigua( )
+    {
+        if( inicio == 0 )
+        {
+            return;
+        }
+        if( inicio + tamano <= elementos.length )
+        {
+            System.arraycopy( elementos, inicio, elementos, 0, tamano );
+            Arrays.fill( elementos, Math.max( tamano, inicio ), inicio + tamano, null );
+        }
+        else
+        {
+            Object[] nuevos = new Object[elementos.length];
+            copiarEn( nuevos );
+            elementos = nuevos;
+            compartidas = 0;
+        }
+        inicio = 0;
+    }
+
+    private void asegurarCapacidad( int capacidad )
+    {
+        if( capacidad > elementos.length )
+        {
+            Object[] nuevos = new Object[capacidadPara( capacidad )];
+            copiarEn( nuevos );
+            elementos = nuevos;
+            inicio = 0;
+            compartidas = 0;
+        }
+    }
+
+    /**
+     * Retorna una vista de solo lectura con los elementos actuales de la lista, sin copiarlos.
+     *
+     * La instantánea no cambia aunque la lista cambie después: la lista copia su arreglo antes de escribir en una casilla que ve alguna instantánea. Mientras la lista no cambie, llamar
+     * otra vez este método retorna la misma instantánea.
+     * @return Una lista inmodificable con los elementos actuales
+     */
+    public List<E> instantanea( )
+    {
+        Instantanea<E> ultima = ultimaInstantanea;
+        if( ultima == null || ultima.elementos != elementos || ultima.inicio != inicio || ultima.tamano != tamano )
+        {
+            ultimaInstantanea = new Instantanea<>( elementos, inicio, tamano );
+            if( compartidas == 0 || inicioCompartido == inicio )
+            {
+                inicioCompartido = inicio;
+                compartidas = Math.max( compartidas, tamano );
+            }
+            else
+            {
+                // Las instantáneas empiezan en casillas diferentes: se considera compartido todo el arreglo
+                inicioCompartido = 0;
+                compartidas = elementos.length;
+            }
+        }
+        return ultimaInstantanea;
+    }
+
+    /**
+     * Copia el arreglo si alguna instantánea ve la casilla en la que se va a escribir
+     */
+    private void antesDeEscribir( int casilla )
+    {
+        if( ( ( casilla - inicioCompartido ) & ( elementos.length - 1 ) ) < compartidas )
+        {
+            separar( );
+        }
+    }
+
+    /**
+     * Copia el arreglo si alguna instantánea lo comparte, para poder escribir en cualquier casilla
+     */
+    private void separar( )
+    {
+        if( compartidas > 0 )
+        {
+            Object[] nuevos = new Object[elementos.length];
+            copiarEn( nuevos );
+            elementos = nuevos;
+            inicio = 0;
+            compartidas = 0;
+        }
+    }
+
+    private int real( int posicion )
+    {
+        return ( inicio + posicion ) & ( elementos.length - 1 );
+    }
+
+    private void verificarPosicion( int posicion )
+    {
+        if( posicion < 0 || posicion >= tamano )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamano );
+        }
+    }
+
+    private static int capacidadPara( int cantidad )
+    {
+        int capacidad = CAPACIDAD_MINIMA;
+        while( capacidad < cantidad )
+        {
+            capacidad <<= 1;
+            if( capacidad <= 0 )
+            {
+                throw new OutOfMemoryError( "La lista no puede tener más de 2^30 elementos" );
+            }
+        }
+        return capacidad;
+    }
+
+    /**
+     * Una vista de solo lectura de las casillas de un arreglo circular
+     */
+    private static class Instantanea<E> extends AbstractList<E> implements RandomAccess
+    {
+        /**
+         * El arreglo compartido con la lista
+         */
+        private final Object[] elementos;
+
+        /**
+         * La casilla del primer elemento de la instantánea
+         */
+        private final int inicio;
+
+        /**
+         * La cantidad de elementos de la instantánea
+         */
+        private final int tamano;
+
+        Instantanea( Object[] elementos, int inicio, int tamano )
+        {
+            this.elementos = elementos;
+            this.inicio = inicio;
+            this.tamano = tamano;
+        }
+
+        @Override
+        @SuppressWarnings( "unchecked" )
+        public E get( int posicion )
+        {
+            if( posicion < 0 || posicion >= tamano )
+            {
+                throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamano );
+            }
+            return ( E )elementos[ ( inicio + posicion ) & ( elementos.length - 1 ) ];
+        }
+
+        @Override
+        public int size( )
+        {
+            return tamano;
+        }
+    }
+}
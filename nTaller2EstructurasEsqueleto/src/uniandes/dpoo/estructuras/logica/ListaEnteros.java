@@ -0,0 +1,500 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Esta clase es una lista de enteros que crece según se necesite y que guarda sus valores en un arreglo de int, sin convertirlos a objetos (Integer).
+ *
+ * Cada valor ocupa 4 bytes, en lugar de los 16 del objeto Integer más los 4 a 8 de la referencia que ocupa en un ArrayList&lt;Integer&gt;.
+ *
+ * Cuando se necesita tratar el contenido como una List&lt;Integer&gt;, el método comoLista() retorna una vista respaldada por esta misma lista, que solo convierte a Integer los valores que se consultan.
+ *
+ * El método instantanea() retorna una vista de solo lectura que comparte el arreglo con la lista, sin copiarlo. Si después la lista tiene que escribir en una posición que ve alguna
+ * instantánea, primero copia el arreglo (copia al escribir). Agregar valores al final nunca obliga a copiar.
+ */
+public class ListaEnteros
+{
+    /**
+     * La capacidad con la que se crea el arreglo la primera vez que se agrega un valor
+     */
+    private static final int CAPACIDAD_MINIMA = 8;
+
+    /**
+     * Los valores de la lista. Solo las primeras 'tamano' posiciones hacen parte de la lista.
+     */
+    private int[] valores;
+
+    /**
+     * La cantidad de valores en la lista
+     */
+    private int tamano;
+
+    /**
+     * La vista de la lista como List&lt;Integer&gt;. Se crea la primera vez que se pide.
+     */
+    private List<Integer> vista;
+
+    /**
+     * La cantidad de posiciones, desde el principio del arreglo, que ven las instantáneas que comparten el arreglo. Escribir en ellas obliga a copiar el arreglo antes.
+     */
+    private int compartidas;
+
+    /**
+     * La última instantánea creada. Se vuelve a retornar mientras la lista no cambie.
+     */
+    private Instantanea ultimaInstantanea;
+
+    /**
+     * Crea una lista vacía
+     */
+    public ListaEnteros( )
+    {
+        valores = new int[0];
+    }
+
+    /**
+     * Crea una lista vacía con espacio para la cantidad de valores indicada
+     * @param capacidadInicial La cantidad de valores que se pueden agregar sin que la lista tenga que crecer
+     */
+    public ListaEnteros( int capacidadInicial )
+    {
+        valores = new int[capacidadInicial];
+    }
+
+    /**
+     * Crea una lista que usa directamente el arreglo dado, sin copiarlo
+     */
+    ListaEnteros( int[] valores, int tamano )
+    {
+        this.valores = valores;
+        this.tamano = tamano;
+    }
+
+    /**
+     * Retorna la cantidad de valores en la lista
+     * @return La cantidad de valores
+     */
+    public int tamano( )
+    {
+        return tamano;
+    }
+
+    /**
+     * Indica si la lista no tiene valores
+     * @return True si la lista está vacía
+     */
+    public boolean estaVacia( )
+    {
+        return tamano == 0;
+    }
+
+    /**
+     * Retorna el valor en una posición de la lista
+     * @param posicion La posición del valor
+     * @return El valor en la posición
+     */
+    public int obtener( int posicion )
+    {
+        verificarPosicion( posicion );
+        return valores[ posicion ];
+    }
+
+    /**
+     * Reemplaza el valor en una posición de la lista
+     * @param posicion La posición del valor
+     * @param valor El nuevo valor
+     * @return El valor que estaba antes en la posición
+     */
+    public int cambiar( int posicion, int valor )
+    {
+        verificarPosicion( posicion );
+        antesDeEscribir( posicion );
+        int anterior = valores[ posicion ];
+        valores[ posicion ] = valor;
+        return anterior;
+    }
+
+    /**
+     * Agrega un valor al final de la lista
+     * @param valor El valor que se va a agregar
+     */
+    public void agregar( int valor )
+    {
+        asegurarCapacidad( tamano + 1 );
+        antesDeEscribir( tamano );
+        valores[ tamano++ ] = valor;
+    }
+
+    /**
+     * Inserta un valor en una posición de la lista, corriendo los valores siguientes una posición
+     * @param posicion La posición donde debe quedar el valor, entre 0 y tamano()
+     * @param valor El valor que se va a insertar
+     */
+    public void insertar( int posicion, int valor )
+    {
+        if( posicion < 0 || posicion > tamano )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamano );
+        }
+        asegurarCapacidad( tamano + 1 );
+        antesDeEscribir( posicion );
+        System.arraycopy( valores, posicion, valores, posicion + 1, tamano - posicion );
+        valores[ posicion ] = valor;
+        tamano++;
+    }
+
+    /**
+     * Elimina el valor en una posición de la lista
+     * @param posicion La posición del valor que se va a eliminar
+     * @return El valor eliminado
+     */
+    public int eliminarPosicion( int posicion )
+    {
+        verificarPosicion( posicion );
+        antesDeEscribir( posicion );
+        int eliminado = valores[ posicion ];
+        System.arraycopy( valores, posicion + 1, valores, posicion, tamano - posicion - 1 );
+        tamano--;
+        return eliminado;
+    }
+
+    /**
+     * Elimina todas las apariciones de un valor, conservando el orden de los demás valores
+     * @param valor El valor que se va a eliminar
+     * @return La cantidad de valores eliminados
+     */
+    public int eliminarValor( int valor )
+    {
+        // Hasta la primera aparición no se escribe nada
+        int destino = 0;
+        while( destino < tamano && valores[ destino ] != valor )
+        {
+            destino++;
+        }
+        if( destino == tamano )
+        {
+            return 0;
+        }
+
+        antesDeEscribir( destino );
+        for( int i = destino + 1; i < tamano; i++ )
+        {
+            int actual = valores[ i ];
+            if( actual != valor )
+            {
+                valores[ destino++ ] = actual;
+            }
+        }
+        int eliminados = tamano - destino;
+        tamano = destino;
+        return eliminados;
+    }
+
+    /**
+     * Aplica un grupo de inserciones y eliminaciones por posición en un solo recorrido de la lista.
+     *
+     * Las posiciones de todas las ediciones se refieren a la lista antes de aplicar el grupo. Las ediciones se ordenan por posición y luego se construye el nuevo arreglo copiando por
+     * bloques los valores que no cambian, así que el costo es O(n + k log k) en lugar de correr los valores de la lista una vez por cada edición.
+     *
+     * En una misma posición, las inserciones quedan antes del valor original en el orden en el que aparecen en el grupo.
+     * @param ediciones Las ediciones que se van a aplicar
+     */
+    public void aplicarEdiciones( List<Edicion> ediciones )
+    {
+        if( ediciones.isEmpty( ) )
+        {
+            return;
+        }
+
+        Edicion[] ordenadas = ediciones.toArray( new Edicion[ediciones.size( )] );
+        // El ordenamiento de objetos es estable, así que las inserciones en la misma posición conservan su orden
+        Arrays.sort( ordenadas, ( a, b ) -> {
+            int comparacion = Integer.compare( posicionEfectiva( a ), posicionEfectiva( b ) );
+            if( comparacion != 0 )
+            {
+                return comparacion;
+            }
+            return Boolean.compare( b.esInsercion( ), a.esInsercion( ) );
+        } );
+
+        int inserciones = 0;
+        for( Edicion edicion : ordenadas )
+        {
+            if( edicion.esInsercion( ) )
+            {
+                inserciones++;
+            }
+        }
+
+        int[] nuevos = new int[tamano + inserciones];
+        int origen = 0;
+        int destino = 0;
+        for( Edicion edicion : ordenadas )
+        {
+            int posicion = posicionEfectiva( edicion );
+            if( !edicion.esInsercion( ) && ( posicion < 0 || posicion >= tamano || posicion < origen ) )
+            {
+                // Posición inexistente o que ya se eliminó
+                continue;
+            }
+
+            int bloque = posicion - origen;
+            System.arraycopy( valores, origen, nuevos, destino, bloque );
+            destino += bloque;
+            origen = posicion;
+
+            if( edicion.esInsercion( ) )
+            {
+                nuevos[ destino++ ] = edicion.getValor( );
+            }
+            else
+            {
+                origen++;
+            }
+        }
+        System.arraycopy( valores, origen, nuevos, destino, tamano - origen );
+        destino += tamano - origen;
+
+        valores = nuevos;
+        tamano = destino;
+        compartidas = 0;
+    }
+
+    /**
+     * Retorna la posición donde actúa una edición. Las posiciones de las inserciones se ajustan al rango [0, tamano].
+     */
+    private int posicionEfectiva( Edicion edicion )
+    {
+        if( edicion.esInsercion( ) )
+        {
+            return Math.max( 0, Math.min( edicion.getPosicion( ), tamano ) );
+        }
+        return edicion.getPosicion( );
+    }
+
+    /**
+     * Ordena los valores de la lista de mayor a menor.
+     *
+     * Los valores se ordenan de menor a mayor sobre el mismo arreglo y luego se invierte el orden, así que no se convierten a Integer ni se restan valores que puedan desbordarse.
+     * @param enParalelo Indica si el ordenamiento se debe hacer en paralelo
+     */
+    public void ordenarDescendente( boolean enParalelo )
+    {
+        antesDeEscribir( 0 );
+        if( enParalelo )
+        {
+            Arrays.parallelSort( valores, 0, tamano );
+        }
+        else
+        {
+            Arrays.sort( valores, 0, tamano );
+        }
+        for( int i = 0, j = tamano - 1; i < j; i++, j-- )
+        {
+            int temporal = valores[ i ];
+            valores[ i ] = valores[ j ];
+            valores[ j ] = temporal;
+        }
+    }
+
+    /**
+     * Elimina todos los valores de la lista
+     */
+    public void limpiar( )
+    {
+        tamano = 0;
+    }
+
+    /**
+     * Asegura que la lista tenga espacio para la cantidad de valores indicada sin tener que crecer
+     * @param capacidad La cantidad de valores que debe poder almacenar la lista
+     */
+    public void asegurarCapacidad( int capacidad )
+    {
+        if( capacidad > valores.length )
+        {
+            int nueva = Math.max( CAPACIDAD_MINIMA, valores.length << 1 );
+            if( nueva < 0 || nueva > Integer.MAX_VALUE - 8 )
+            {
+                nueva = Integer.MAX_VALUE - 8;
+            }
+            valores = Arrays.copyOf( valores, Math.max( nueva, capacidad ) );
+            compartidas = 0;
+        }
+    }
+
+    /**
+     * Retorna un arreglo nuevo con los valores de la lista
+     * @return Un arreglo con los valores de la lista, en orden
+     */
+    public int[] aArreglo( )
+    {
+        return Arrays.copyOf( valores, tamano );
+    }
+
+    /**
+     * Retorna una vista de solo lectura con los valores actuales de la lista, sin copiarlos.
+     *
+     * La instantánea no cambia aunque la lista cambie después: la lista copia su arreglo antes de escribir en una posición que ve alguna instantánea. Mientras la lista no cambie, llamar
+     * otra vez este método retorna la misma instantánea.
+     * @return Una lista inmodificable con los valores actuales
+     */
+    public List<Integer> instantanea( )
+    {
+        if( ultimaInstantanea == null || ultimaInstantanea.valores != valores || ultimaInstantanea.tamano != tamano )
+        {
+            ultimaInstantanea = new Instantanea( valores, tamano );
+            compartidas = Math.max( compartidas, tamano );
+        }
+        return ultimaInstantanea;
+    }
+
+    /**
+     * Retorna una vista de esta lista como List&lt;Integer&gt;. Los cambios en la vista se reflejan en esta lista y viceversa.
+     * @return La vista de la lista
+     */
+    public List<Integer> comoLista( )
+    {
+        if( vista == null )
+        {
+            vista = new Vista( );
+        }
+        return vista;
+    }
+
+    /**
+     * Retorna el arreglo donde se guardan los valores, para que las clases del paquete lo recorran sin copiarlo.
+     *
+     * Solo las primeras tamano() posiciones son válidas.
+     */
+    int[] arreglo( )
+    {
+        return valores;
+    }
+
+    /**
+     * Retorna el arreglo donde se guardan los valores para que las clases del paquete escriban en él directamente. Si alguna instantánea comparte el arreglo, primero se copia.
+     *
+     * Solo las primeras tamano() posiciones son válidas.
+     */
+    int[] arregloModificable( )
+    {
+        antesDeEscribir( 0 );
+        return valores;
+    }
+
+    /**
+     * Copia el arreglo si alguna instantánea ve la posición en la que se va a escribir, o alguna posterior
+     */
+    private void antesDeEscribir( int posicion )
+    {
+        if( posicion < compartidas )
+        {
+            int[] copia = new int[valores.length];
+            System.arraycopy( valores, 0, copia, 0, tamano );
+            valores = copia;
+            compartidas = 0;
+        }
+    }
+
+    private void verificarPosicion( int posicion )
+    {
+        if( posicion < 0 || posicion >= tamano )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamano );
+        }
+    }
+
+    @Override
+    public String toString( )
+    {
+        return comoLista( ).toString( );
+    }
+
+    /**
+     * La vista de la lista como List&lt;Integer&gt;
+     */
+    private class Vista extends AbstractList<Integer> implements RandomAccess
+    {
+        @Override
+        public Integer get( int posicion )
+        {
+            return obtener( posicion );
+        }
+
+        @Override
+        public Integer set( int posicion, Integer valor )
+        {
+            return cambiar( posicion, valor );
+        }
+
+        @Override
+        public void add( int posicion, Integer valor )
+        {
+            insertar( posicion, valor );
+            modCount++;
+        }
+
+        @Override
+        public Integer remove( int posicion )
+        {
+            Integer eliminado = eliminarPosicion( posicion );
+            modCount++;
+            return eliminado;
+        }
+
+        @Override
+        public void clear( )
+        {
+            limpiar( );
+            modCount++;
+        }
+
+        @Override
+        public int size( )
+        {
+            return tamano;
+        }
+    }
+
+    /**
+     * Una vista de solo lectura de las primeras posiciones de un arreglo
+     */
+    private static class Instantanea extends AbstractList<Integer> implements RandomAccess
+    {
+        /**
+         * El arreglo compartido con la lista
+         */
+        private final int[] valores;
+
+        /**
+         * La cantidad de valores de la instantánea
+         */
+        private final int tamano;
+
+        Instantanea( int[] valores, int tamano )
+        {
+            this.valores = valores;
+            this.tamano = tamano;
+        }
+
+        @Override
+        public Integer get( int posicion )
+        {
+            if( posicion < 0 || posicion >= tamano )
+            {
+                throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + tamano );
+            }
+            return valores[ posicion ];
+        }
+
+        @Override
+        public int size( )
+        {
+            return tamano;
+        }
+    }
+}
@@ -1,185 +1,566 @@
 package uniandes.dpoo.estructuras.logica;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 
 import java.util.Arrays;
 
 public class SandboxArreglos {
+    private static final int CAPACIDAD_MINIMA = 8;
+    private static final int TAMANO_MINIMO_RANGO_DENSO = 1024;
+    public static final int SIN_PARALELISMO = Integer.MAX_VALUE;
+
+    // Los arreglos pueden tener más posiciones que valores: solo las primeras
+    // cantidadEnteros / cantidadCadenas posiciones hacen parte del contenido.
     private int[] arregloEnteros;
+    private int cantidadEnteros;
+    // Es true cuando se sabe que los enteros están ordenados de menor a mayor, lo que
+    // permite hacer búsquedas binarias. Si es false el arreglo podría estar ordenado o no.
+    private boolean enterosOrdenados;
     private String[] arregloCadenas;
+    private int cantidadCadenas;
+    // Las operaciones sobre al menos esta cantidad de enteros se reparten entre varios hilos
+    private int umbralParalelo = SIN_PARALELISMO;
+    private GeneradorEnteros generadorEnteros = new GeneradorEnteros();
 
     public SandboxArreglos() {
         arregloEnteros = new int[]{};
+        enterosOrdenados = true;
         arregloCadenas = new String[]{};
     }
 
+    public int getUmbralParalelo() {
+        return umbralParalelo;
+    }
+
+    // Activa el modo paralelo para las operaciones sobre al menos 'umbral' enteros.
+    // Con SIN_PARALELISMO (el valor inicial) todas las operaciones son secuenciales.
+    public void setUmbralParalelo(int umbral) {
+        if (umbral < 1) {
+            throw new IllegalArgumentException("El umbral debe ser positivo: " + umbral);
+        }
+        umbralParalelo = umbral;
+    }
+
+    // Permite usar un generador con una semilla conocida para que generarEnteros sea reproducible
+    public void setGeneradorEnteros(GeneradorEnteros generador) {
+        generadorEnteros = generador;
+    }
+
     public int[] getCopiaEnteros() {
-        return Arrays.copyOf(arregloEnteros, arregloEnteros.length);
+        return Arrays.copyOf(arregloEnteros, cantidadEnteros);
     }
 
     public String[] getCopiaCadenas() {
-        return Arrays.copyOf(arregloCadenas, arregloCadenas.length);
+        return Arrays.copyOf(arregloCadenas, cantidadCadenas);
     }
 
     public int getCantidadEnteros() {
-        return arregloEnteros.length;
+        return cantidadEnteros;
     }
 
     public int getCantidadCadenas() {
-        return arregloCadenas.length;
+        return cantidadCadenas;
     }
 
     public void agregarEntero(int entero) {
-        arregloEnteros = Arrays.copyOf(arregloEnteros, arregloEnteros.length + 1);
-        arregloEnteros[arregloEnteros.length - 1] = entero;
+        asegurarCapacidadEnteros(cantidadEnteros + 1);
+        enterosOrdenados = enterosOrdenados && (cantidadEnteros == 0 || arregloEnteros[cantidadEnteros - 1] <= entero);
+        arregloEnteros[cantidadEnteros++] = entero;
     }
 
     public void agregarCadena(String cadena) {
-        arregloCadenas = Arrays.copyOf(arregloCadenas, arregloCadenas.length + 1);
-        arregloCadenas[arregloCadenas.length - 1] = cadena;
+        asegurarCapacidadCadenas(cantidadCadenas + 1);
+        arregloCadenas[cantidadCadenas++] = cadena;
+    }
+
+    public void agregarEnteros(int[] valores) {
+        asegurarCapacidadEnteros(cantidadEnteros + valores.length);
+        enterosOrdenados = enterosOrdenados && mantieneOrden(valores, cantidadEnteros);
+        System.arraycopy(valores, 0, arregloEnteros, cantidadEnteros, valores.length);
+        cantidadEnteros += valores.length;
+    }
+
+    public void agregarCadenas(String[] cadenas) {
+        asegurarCapacidadCadenas(cantidadCadenas + cadenas.length);
+        System.arraycopy(cadenas, 0, arregloCadenas, cantidadCadenas, cadenas.length);
+        cantidadCadenas += cadenas.length;
     }
 
     public void eliminarEntero(int valor) {
-        int[] nuevoArreglo = Arrays.stream(arregloEnteros).filter(num -> num != valor).toArray();
-        arregloEnteros = nuevoArreglo;
+        if (enterosOrdenados) {
+            // Las apariciones del valor son un bloque contiguo que se cierra con una sola copia
+            int inicio = limiteInferior(valor);
+            int fin = limiteSuperior(valor);
+            System.arraycopy(arregloEnteros, fin, arregloEnteros, inicio, cantidadEnteros - fin);
+            cantidadEnteros -= fin - inicio;
+            return;
+        }
+
+        // Compacta en el mismo arreglo: los valores que se conservan se corren hacia adelante
+        int destino = 0;
+        for (int i = 0; i < cantidadEnteros; i++) {
+            int num = arregloEnteros[i];
+            if (num != valor) {
+                arregloEnteros[destino++] = num;
+            }
+        }
+        cantidadEnteros = destino;
+    }
+
+    public void eliminarEnteros(int[] valores) {
+        if (valores.length == 0 || cantidadEnteros == 0) {
+            return;
+        }
+        int[] eliminados = Arrays.copyOf(valores, valores.length);
+        Arrays.sort(eliminados);
+
+        int destino = 0;
+        for (int i = 0; i < cantidadEnteros; i++) {
+            int num = arregloEnteros[i];
+            if (Arrays.binarySearch(eliminados, num) < 0) {
+                arregloEnteros[destino++] = num;
+            }
+        }
+        cantidadEnteros = destino;
     }
 
     public void eliminarCadena(String cadena) {
-        String[] nuevoArreglo = Arrays.stream(arregloCadenas)
-                                      .filter(str -> !str.equalsIgnoreCase(cadena))
-                                      .toArray(String[]::new);
-        arregloCadenas = nuevoArreglo;
+        int destino = 0;
+        for (int i = 0; i < cantidadCadenas; i++) {
+            String str = arregloCadenas[i];
+            if (!str.equalsIgnoreCase(cadena)) {
+                arregloCadenas[destino++] = str;
+            }
+        }
+        // Se liberan las referencias que quedaron por fuera del contenido
+        Arrays.fill(arregloCadenas, destino, cantidadCadenas, null);
+        cantidadCadenas = destino;
     }
 
     public void insertarEntero(int entero, int posicion) {
         if (posicion < 0) {
             posicion = 0;
-        } else if (posicion > arregloEnteros.length) {
-            posicion = arregloEnteros.length;
+        } else if (posicion > cantidadEnteros) {
+            posicion = cantidadEnteros;
         }
 
-        int[] nuevoArreglo = new int[arregloEnteros.length + 1];
-        System.arraycopy(arregloEnteros, 0, nuevoArreglo, 0, posicion);
-        nuevoArreglo[posicion] = entero;
-        System.arraycopy(arregloEnteros, posicion, nuevoArreglo, posicion + 1, arregloEnteros.length - posicion);
-        arregloEnteros = nuevoArreglo;
+        asegurarCapacidadEnteros(cantidadEnteros + 1);
+        enterosOrdenados = enterosOrdenados
+                && (posicion == 0 || arregloEnteros[posicion - 1] <= entero)
+                && (posicion == cantidadEnteros || entero <= arregloEnteros[posicion]);
+        System.arraycopy(arregloEnteros, posicion, arregloEnteros, posicion + 1, cantidadEnteros - posicion);
+        arregloEnteros[posicion] = entero;
+        cantidadEnteros++;
+    }
+
+    public void insertarEnteros(int[] valores, int posicion) {
+        if (posicion < 0) {
+            posicion = 0;
+        } else if (posicion > cantidadEnteros) {
+            posicion = cantidadEnteros;
+        }
+
+        enterosOrdenados = enterosOrdenados && mantieneOrden(valores, posicion);
+        int[] destino = arregloEnteros;
+        int total = cantidadEnteros + valores.length;
+        if (total > arregloEnteros.length) {
+            // Al crecer se copia cada parte directamente a su lugar final
+            destino = new int[nuevaCapacidad(arregloEnteros.length, total)];
+            System.arraycopy(arregloEnteros, 0, destino, 0, posicion);
+        }
+        System.arraycopy(arregloEnteros, posicion, destino, posicion + valores.length, cantidadEnteros - posicion);
+        System.arraycopy(valores, 0, destino, posicion, valores.length);
+        arregloEnteros = destino;
+        cantidadEnteros = total;
+    }
+
+    public void insertarCadenas(String[] cadenas, int posicion) {
+        if (posicion < 0) {
+            posicion = 0;
+        } else if (posicion > cantidadCadenas) {
+            posicion = cantidadCadenas;
+        }
+
+        String[] destino = arregloCadenas;
+        int total = cantidadCadenas + cadenas.length;
+        if (total > arregloCadenas.length) {
+            destino = new String[nuevaCapacidad(arregloCadenas.length, total)];
+            System.arraycopy(arregloCadenas, 0, destino, 0, posicion);
+        }
+        System.arraycopy(arregloCadenas, posicion, destino, posicion + cadenas.length, cantidadCadenas - posicion);
+        System.arraycopy(cadenas, 0, destino, posicion, cadenas.length);
+        arregloCadenas = destino;
+        cantidadCadenas = total;
     }
 
     public void eliminarEnteroPorPosicion(int posicion) {
-        if (posicion >= 0 && posicion < arregloEnteros.length) {
-            int[] nuevoArreglo = new int[arregloEnteros.length - 1];
-            System.arraycopy(arregloEnteros, 0, nuevoArreglo, 0, posicion);
-            System.arraycopy(arregloEnteros, posicion + 1, nuevoArreglo, posicion, arregloEnteros.length - posicion - 1);
-            arregloEnteros = nuevoArreglo;
+        if (posicion >= 0 && posicion < cantidadEnteros) {
+            System.arraycopy(arregloEnteros, posicion + 1, arregloEnteros, posicion, cantidadEnteros - posicion - 1);
+            cantidadEnteros--;
         }
     }
 
     public void reiniciarArregloEnteros(double[] valores) {
         arregloEnteros = Arrays.stream(valores).mapToInt(val -> (int) val).toArray();
+        cantidadEnteros = arregloEnteros.length;
+        enterosOrdenados = cantidadEnteros <= 1;
     }
 
     public void reiniciarArregloCadenas(Object[] objetos) {
         arregloCadenas = Arrays.stream(objetos).map(Object::toString).toArray(String[]::new);
+        cantidadCadenas = arregloCadenas.length;
+    }
+
+    // Las versiones que reciben un Stream, un Spliterator o un Iterator llenan el arreglo mientras recorren
+    // la fuente, sin copiarla antes a un arreglo intermedio. Si la fuente conoce su tamaño exacto el arreglo se
+    // reserva una sola vez. Los Stream no se cierran.
+    public void reiniciarArregloEnteros(DoubleStream valores) {
+        reiniciarArregloEnteros(valores.spliterator());
+    }
+
+    public void reiniciarArregloEnteros(PrimitiveIterator.OfDouble valores) {
+        reiniciarArregloEnteros(Spliterators.spliteratorUnknownSize(valores, Spliterator.ORDERED));
+    }
+
+    public void reiniciarArregloEnteros(Spliterator.OfDouble valores) {
+        // Se llena un arreglo local y los atributos solo se reemplazan si la fuente se recorre completa
+        int[] enteros = new int[EstimacionTamano.capacidadInicial(valores, CAPACIDAD_MINIMA)];
+        int cantidad = 0;
+        for (PrimitiveIterator.OfDouble it = Spliterators.iterator(valores); it.hasNext();) {
+            if (cantidad == enteros.length) {
+                enteros = Arrays.copyOf(enteros, nuevaCapacidad(enteros.length, cantidad + 1));
+            }
+            enteros[cantidad++] = (int) it.nextDouble();
+        }
+        arregloEnteros = enteros;
+        cantidadEnteros = cantidad;
+        enterosOrdenados = cantidad <= 1;
+    }
+
+    public void reiniciarArregloCadenas(Stream<?> objetos) {
+        reiniciarArregloCadenas(objetos.spliterator());
+    }
+
+    public void reiniciarArregloCadenas(Iterator<?> objetos) {
+        reiniciarArregloCadenas(Spliterators.spliteratorUnknownSize(objetos, Spliterator.ORDERED));
+    }
+
+    public void reiniciarArregloCadenas(Spliterator<?> objetos) {
+        String[] cadenas = new String[EstimacionTamano.capacidadInicial(objetos, CAPACIDAD_MINIMA)];
+        int cantidad = 0;
+        for (Iterator<?> it = Spliterators.iterator(objetos); it.hasNext();) {
+            if (cantidad == cadenas.length) {
+                cadenas = Arrays.copyOf(cadenas, nuevaCapacidad(cadenas.length, cantidad + 1));
+            }
+            cadenas[cantidad++] = it.next().toString();
+        }
+        arregloCadenas = cadenas;
+        cantidadCadenas = cantidad;
     }
 
     public void volverPositivos() {
-        for (int i = 0; i < arregloEnteros.length; i++) {
+        if (usarParalelismo(cantidadEnteros)) {
+            // Si están ordenados, hay negativos solo si el primero lo es
+            enterosOrdenados = enterosOrdenados && arregloEnteros[0] >= 0;
+            int[] enteros = arregloEnteros;
+            IntStream.range(0, cantidadEnteros).parallel().forEach(i -> {
+                if (enteros[i] < 0) {
+                    enteros[i] = -enteros[i];
+                }
+            });
+            return;
+        }
+
+        for (int i = 0; i < cantidadEnteros; i++) {
             if (arregloEnteros[i] < 0) {
                 arregloEnteros[i] = -arregloEnteros[i];
+                enterosOrdenados = false;
             }
         }
     }
 
     public void organizarEnteros() {
-        Arrays.sort(arregloEnteros);
+        if (usarParalelismo(cantidadEnteros)) {
+            Arrays.parallelSort(arregloEnteros, 0, cantidadEnteros);
+        } else {
+            Arrays.sort(arregloEnteros, 0, cantidadEnteros);
+        }
+        enterosOrdenados = true;
     }
 
     public void organizarCadenas() {
-        Arrays.sort(arregloCadenas, String.CASE_INSENSITIVE_ORDER);
+        Arrays.sort(arregloCadenas, 0, cantidadCadenas, String.CASE_INSENSITIVE_ORDER);
     }
 
     public int contarApariciones(int valor) {
-        return (int) Arrays.stream(arregloEnteros).filter(num -> num == valor).count();
+        if (enterosOrdenados) {
+            return limiteSuperior(valor) - limiteInferior(valor);
+        }
+        if (usarParalelismo(cantidadEnteros)) {
+            int[] enteros = arregloEnteros;
+            return (int) IntStream.range(0, cantidadEnteros).parallel().filter(i -> enteros[i] == valor).count();
+        }
+
+        int count = 0;
+        for (int i = 0; i < cantidadEnteros; i++) {
+            if (arregloEnteros[i] == valor) {
+                count++;
+            }
+        }
+        return count;
     }
 
     public int contarApariciones(String cadena) {
-        return (int) Arrays.stream(arregloCadenas).filter(str -> str.equalsIgnoreCase(cadena)).count();
+        return (int) Arrays.stream(arregloCadenas, 0, cantidadCadenas).filter(str -> str.equalsIgnoreCase(cadena)).count();
     }
 
     public int[] buscarEntero(int valor) {
-        // Lista para almacenar las posiciones encontradas
-        int[] posiciones = new int[arregloEnteros.length];
+        if (enterosOrdenados) {
+            // Las posiciones del valor forman el bloque [inicio, fin)
+            int inicio = limiteInferior(valor);
+            int[] posiciones = new int[limiteSuperior(valor) - inicio];
+            for (int i = 0; i < posiciones.length; i++) {
+                posiciones[i] = inicio + i;
+            }
+            return posiciones;
+        }
+
+        // Arreglo del tamaño exacto para almacenar las posiciones encontradas
+        int[] posiciones = new int[contarApariciones(valor)];
         int count = 0;
 
         // Iterar sobre el arreglo para encontrar el valor
-        for (int i = 0; i < arregloEnteros.length; i++) {
+        for (int i = 0; count < posiciones.length; i++) {
             if (arregloEnteros[i] == valor) {
                 posiciones[count++] = i; // Guardar la posición
             }
         }
 
-        // Recortar el arreglo de posiciones para que tenga solo los índices encontrados
-        return Arrays.copyOf(posiciones, count);
+        return posiciones;
     }
 
     public int[] calcularRangoEnteros() {
-        if (arregloEnteros.length == 0) {
+        if (cantidadEnteros == 0) {
             return new int[]{};
         }
+        if (enterosOrdenados) {
+            return new int[]{arregloEnteros[0], arregloEnteros[cantidadEnteros - 1]};
+        }
 
-        int min = Arrays.stream(arregloEnteros).min().orElse(0);
-        int max = Arrays.stream(arregloEnteros).max().orElse(0);
+        EstadisticasEnteros estadisticas = calcularEstadisticasEnteros();
+        return new int[]{estadisticas.getMinimo(), estadisticas.getMaximo()};
+    }
 
-        return new int[]{min, max};
+    public EstadisticasEnteros calcularEstadisticasEnteros() {
+        return EstadisticasEnteros.calcular(arregloEnteros, 0, cantidadEnteros);
     }
 
     public HashMap<Integer, Integer> calcularHistograma() {
-        HashMap<Integer, Integer> histograma = new HashMap<>();
+        return calcularHistogramaPrimitivo().aHashMap();
+    }
 
-        for (int num : arregloEnteros) {
-            histograma.put(num, histograma.getOrDefault(num, 0) + 1);
+    public TablaHashEnteros calcularHistogramaPrimitivo() {
+        int[] rango = calcularRangoEnteros();
+        if (rango.length == 0) {
+            return new TablaHashEnteros();
         }
 
-        return histograma;
+        if (esRangoDenso(rango)) {
+            int[] conteos = contarEnRango(rango[0], rango[1]);
+            int diferentes = 0;
+            for (int conteo : conteos) {
+                if (conteo > 0) {
+                    diferentes++;
+                }
+            }
+            TablaHashEnteros histograma = new TablaHashEnteros(diferentes);
+            for (int i = 0; i < conteos.length; i++) {
+                if (conteos[i] > 0) {
+                    histograma.poner(rango[0] + i, conteos[i]);
+                }
+            }
+            return histograma;
+        }
+
+        return contarEnTabla();
     }
 
     public int contarEnterosRepetidos() {
-        HashMap<Integer, Integer> contador = new HashMap<>();
-
-        for (int num : arregloEnteros) {
-            contador.put(num, contador.getOrDefault(num, 0) + 1);
+        int[] rango = calcularRangoEnteros();
+        if (rango.length == 0) {
+            return 0;
         }
 
-        int repetidos = 0;
-        for (int count : contador.values()) {
-            if (count > 1) {
-                repetidos++;
+        if (esRangoDenso(rango)) {
+            int repetidos = 0;
+            for (int count : contarEnRango(rango[0], rango[1])) {
+                if (count > 1) {
+                    repetidos++;
+                }
             }
+            return repetidos;
         }
 
-        return repetidos;
+        return contarEnTabla().contarValoresMayoresA(1);
     }
 
     public boolean compararArregloEnteros(int[] otroArreglo) {
-        return Arrays.equals(arregloEnteros, otroArreglo);
+        return otroArreglo.length == cantidadEnteros && buscarPrimeraDiferencia(otroArreglo) == -1;
+    }
+
+    // Retorna la primera posición en la que los enteros difieren del otro arreglo, o -1 si son iguales.
+    // Si uno es prefijo del otro, la primera diferencia es el tamaño del más corto.
+    public int buscarPrimeraDiferencia(int[] otroArreglo) {
+        return DiferenciaEnteros.primeraDiferencia(arregloEnteros, cantidadEnteros, otroArreglo, otroArreglo.length);
     }
 
     public boolean mismosEnteros(int[] otroArreglo) {
-        int[] copiaArregloOriginal = Arrays.copyOf(arregloEnteros, arregloEnteros.length);
-        int[] copiaOtroArreglo = Arrays.copyOf(otroArreglo, otroArreglo.length);
+        if (otroArreglo.length != cantidadEnteros) {
+            return false;
+        }
+        if (cantidadEnteros == 0) {
+            return true;
+        }
 
-        Arrays.sort(copiaArregloOriginal);
-        Arrays.sort(copiaOtroArreglo);
+        // Se cuentan los valores propios y se descuentan los del otro arreglo. Como los dos
+        // tienen la misma cantidad de elementos, basta con que ningún conteo quede negativo.
+        int[] rango = calcularRangoEnteros();
+        if (esRangoDenso(rango)) {
+            int[] conteos = contarEnRango(rango[0], rango[1]);
+            for (int num : otroArreglo) {
+                if (num < rango[0] || num > rango[1] || --conteos[num - rango[0]] < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
 
-        return Arrays.equals(copiaArregloOriginal, copiaOtroArreglo);
+        TablaHashEnteros conteos = contarEnTabla();
+        for (int num : otroArreglo) {
+            if (conteos.sumar(num, -1) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public void generarEnteros(int cantidad, int minimo, int maximo) {
-        arregloEnteros = new int[cantidad];
+        // Se genera en un arreglo local para no perder los enteros actuales si el rango no es válido
+        int[] valores = new int[cantidad];
+        generadorEnteros.llenar(valores, 0, cantidad, minimo, maximo, usarParalelismo(cantidad));
+
+        arregloEnteros = valores;
+        cantidadEnteros = cantidad;
+        enterosOrdenados = cantidad <= 1;
+    }
+
+    // Primera posición cuyo valor es mayor o igual al valor dado. Solo sirve si los enteros están ordenados.
+    private int limiteInferior(int valor) {
+        int bajo = 0;
+        int alto = cantidadEnteros;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (arregloEnteros[medio] < valor) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    // Primera posición cuyo valor es estrictamente mayor al valor dado. Solo sirve si los enteros están ordenados.
+    private int limiteSuperior(int valor) {
+        int bajo = 0;
+        int alto = cantidadEnteros;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (arregloEnteros[medio] <= valor) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    // Indica si el arreglo seguiría ordenado al insertar los valores a partir de la posición dada
+    private boolean mantieneOrden(int[] valores, int posicion) {
+        if (valores.length == 0) {
+            return true;
+        }
+        for (int i = 1; i < valores.length; i++) {
+            if (valores[i - 1] > valores[i]) {
+                return false;
+            }
+        }
+        boolean ordenAntes = posicion == 0 || arregloEnteros[posicion - 1] <= valores[0];
+        boolean ordenDespues = posicion == cantidadEnteros || valores[valores.length - 1] <= arregloEnteros[posicion];
+        return ordenAntes && ordenDespues;
+    }
+
+    // Un rango es denso si un arreglo de conteos con una casilla por valor posible no es
+    // mucho más grande que el propio arreglo de enteros.
+    private boolean esRangoDenso(int[] rango) {
+        long tamanoRango = (long) rango[1] - rango[0] + 1;
+        return tamanoRango <= Math.min(Math.max(TAMANO_MINIMO_RANGO_DENSO, 2L * cantidadEnteros), Integer.MAX_VALUE - 8);
+    }
+
+    private int[] contarEnRango(int minimo, int maximo) {
+        if (usarParalelismo(cantidadEnteros)) {
+            return ConteoParaleloEnteros.contarEnRango(arregloEnteros, 0, cantidadEnteros, minimo, maximo);
+        }
+
+        int[] conteos = new int[maximo - minimo + 1];
+        for (int i = 0; i < cantidadEnteros; i++) {
+            conteos[arregloEnteros[i] - minimo]++;
+        }
+        return conteos;
+    }
+
+    private TablaHashEnteros contarEnTabla() {
+        if (usarParalelismo(cantidadEnteros)) {
+            return ConteoParaleloEnteros.contarEnTabla(arregloEnteros, 0, cantidadEnteros);
+        }
+
+        TablaHashEnteros conteos = new TablaHashEnteros();
+        for (int i = 0; i < cantidadEnteros; i++) {
+            conteos.incrementar(arregloEnteros[i]);
+        }
+        return conteos;
+    }
+
+    private boolean usarParalelismo(int cantidad) {
+        return cantidad >= umbralParalelo;
+    }
+
+    // Duplica la capacidad del arreglo cuando hace falta, para que una secuencia de
+    // agregados cueste O(1) amortizado en lugar de copiar el arreglo completo cada vez.
+    private void asegurarCapacidadEnteros(int capacidadRequerida) {
+        if (capacidadRequerida > arregloEnteros.length) {
+            arregloEnteros = Arrays.copyOf(arregloEnteros, nuevaCapacidad(arregloEnteros.length, capacidadRequerida));
+        }
+    }
+
+    private void asegurarCapacidadCadenas(int capacidadRequerida) {
+        if (capacidadRequerida > arregloCadenas.length) {
+            arregloCadenas = Arrays.copyOf(arregloCadenas, nuevaCapacidad(arregloCadenas.length, capacidadRequerida));
+        }
+    }
 
-        for (int i = 0; i < cantidad; i++) {
-            arregloEnteros[i] = (int) (Math.random() * (maximo - minimo + 1)) + minimo;
+    private static int nuevaCapacidad(int capacidadActual, int capacidadRequerida) {
+        int nueva = Math.max(CAPACIDAD_MINIMA, capacidadActual << 1);
+        if (nueva < 0 || nueva > Integer.MAX_VALUE - 8) {
+            nueva = Integer.MAX_VALUE - 8;
         }
+        return Math.max(nueva, capacidadRequerida);
     }
 }
\ No newline at end of file
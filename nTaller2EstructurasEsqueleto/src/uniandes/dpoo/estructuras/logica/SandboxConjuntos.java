@@ -1,37 +1,90 @@
 package uniandes.dpoo.estructuras.logica;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.NavigableSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeSet;
+import java.util.stream.Stream;
 import java.util.ArrayList;
 
 /**
- * Esta clase tiene un conjunto de métodos para practicar operaciones sobre conjuntos implementados usando un árbol (TreeSet).
+ * Esta clase tiene un conjunto de métodos para practicar operaciones sobre conjuntos implementados usando un árbol.
  *
- * Todos los métodos deben operar sobre el atributo arbolCadenas que se declara como un NavigableSet.
+ * Las cadenas se guardan en un árbol de prefijos comprimido (ConjuntoPrefijos) en lugar de un TreeSet: las cadenas que comparten un prefijo lo guardan una sola vez, y buscar una cadena
+ * cuesta O(largo de la cadena) en lugar de O(log n) comparaciones completas.
+ *
+ * Todos los métodos deben operar sobre el atributo arbolCadenas, que es un NavigableSet.
  * 
- * El objetivo de usar el tipo NavigableSet es que sólo puedan usarse métodos de esa interfaz y no métodos adicionales provistos por la implementación concreta (TreeSet).
+ * Los métodos usan solo las operaciones de la interfaz NavigableSet, excepto los de paginación (getPaginaSiguientes), que necesitan ubicar cadenas por su posición con posicionDe y
+ * obtener de ConjuntoPrefijos. Por eso el atributo se declara con la implementación concreta.
  * 
  * A diferencia de un Set, en un NavigableSet existe una noción de orden que en este caso corresponde al órden lexicográfico.
  * 
- * No pueden agregarse nuevos atributos.
+ * Los demás atributos no guardan cadenas propias: son una instantánea y un índice que se derivan de arbolCadenas, y el umbral para ordenar en paralelo.
  */
 public class SandboxConjuntos
 {
+    /**
+     * El valor del umbral paralelo con el que ninguna operación se hace en paralelo
+     */
+    public static final int SIN_PARALELISMO = Integer.MAX_VALUE;
+
     /**
      * Un conjunto (set) de cadenas para realizar varias de las siguientes operaciones.
      * 
      * Por defecto, los elementos del conjunto están ordenados lexicográficamente.
      */
-    private NavigableSet<String> arbolCadenas;
+    private ConjuntoPrefijos arbolCadenas;
+
+    /**
+     * Una instantánea inmodificable de las cadenas del conjunto, en orden. Se construye la primera vez que se pide y se descarta cuando el conjunto cambia.
+     */
+    private List<String> vistaCadenas;
+
+    /**
+     * Un índice con las mismas cadenas del conjunto que encuentra todas las variantes de una cadena sin distinguir mayúsculas de minúsculas, sin recorrer el conjunto.
+     */
+    private VariantesSinMayusculas indiceSinMayusculas;
+
+    /**
+     * La cantidad de cadenas a partir de la cual la construcción del conjunto las ordena en paralelo
+     */
+    private int umbralParalelo;
 
     /**
      * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
      */
     public SandboxConjuntos()
     {
-        arbolCadenas = new TreeSet<>();
+        arbolCadenas = new ConjuntoPrefijos();
+        indiceSinMayusculas = new VariantesSinMayusculas(0);
+        umbralParalelo = SIN_PARALELISMO;
+    }
+
+    /**
+     * Retorna la cantidad de cadenas a partir de la cual reiniciarConjuntoCadenas y volverMayusculas las ordenan en paralelo
+     * @return El umbral paralelo
+     */
+    public int getUmbralParalelo()
+    {
+        return umbralParalelo;
+    }
+
+    /**
+     * Activa el ordenamiento en paralelo al construir conjuntos con al menos 'umbral' cadenas. Con SIN_PARALELISMO (el valor inicial) siempre se ordena en un solo hilo.
+     * @param umbral La cantidad mínima de cadenas para ordenar en paralelo
+     * @throws IllegalArgumentException Si el umbral no es positivo
+     */
+    public void setUmbralParalelo(int umbral)
+    {
+        if (umbral < 1) {
+            throw new IllegalArgumentException("El umbral debe ser positivo: " + umbral);
+        }
+        umbralParalelo = umbral;
     }
 
     /**
@@ -40,11 +93,23 @@ public class SandboxConjuntos
      */
     public List<String> getCadenasComoLista()
     {
-        List<String> lista = new ArrayList<>();
-        for (String cadena : arbolCadenas) {
-            lista.add(cadena);
+        // Sin una instantánea vigente, la lista se copia directamente del árbol para no recorrer las cadenas dos veces
+        return new ArrayList<>(vistaCadenas != null ? vistaCadenas : arbolCadenas);
+    }
+
+    /**
+     * Retorna una lista inmodificable con las cadenas del conjunto ordenadas lexicográficamente.
+     * 
+     * A diferencia de getCadenasComoLista, la lista no se copia en cada llamado: mientras el conjunto no cambie, todos los llamados retornan la misma lista. Si el conjunto cambia, la
+     * lista retornada antes conserva las cadenas que tenía.
+     * @return Una lista inmodificable con las cadenas ordenadas
+     */
+    public List<String> getVistaCadenas()
+    {
+        if (vistaCadenas == null) {
+            vistaCadenas = Collections.unmodifiableList(Arrays.asList(arbolCadenas.toArray(new String[0])));
         }
-        return lista;
+        return vistaCadenas;
     }
 
     /**
@@ -83,13 +148,54 @@ public class SandboxConjuntos
     }
 
     /**
-     * Retorna una colección con las cadenas que hacen parte del conjunto de cadenas y son mayores o iguales a la cadena que se recibe por parámetro
+     * Retorna una colección con las cadenas que hacen parte del conjunto de cadenas y son mayores o iguales a la cadena que se recibe por parámetro.
+     * 
+     * La colección es una vista de solo lectura: refleja los cambios del conjunto, pero el conjunto solo se puede modificar con los métodos de esta clase.
      * @param cadena
      * @return Una colección de cadenas mayores a la cadena dada. Si la cadena hace parte del conjunto, debe hacer parte de la colección retornada.
      */
     public Collection<String> getSiguientes(String cadena)
     {
-        return arbolCadenas.tailSet(cadena, true);
+        return Collections.unmodifiableNavigableSet(arbolCadenas.tailSet(cadena, true));
+    }
+
+    /**
+     * Retorna la cantidad de cadenas del conjunto que son mayores o iguales a la cadena que se recibe por parámetro.
+     * 
+     * El tamaño de la vista se calcula con los conteos del árbol, sin recorrer las cadenas siguientes.
+     * @param cadena La cadena desde la que se cuenta
+     * @return La cantidad de cadenas mayores o iguales a la cadena dada
+     */
+    public int getCantidadSiguientes(String cadena)
+    {
+        return arbolCadenas.tailSet(cadena, true).size();
+    }
+
+    /**
+     * Retorna una página de las cadenas del conjunto que son mayores o iguales a la cadena que se recibe por parámetro.
+     * 
+     * La primera cadena de la página se ubica por su posición en el árbol, así que pedir una página lejana no recorre las páginas anteriores.
+     * @param cadena La cadena desde la que empiezan las cadenas siguientes
+     * @param inicio La cantidad de cadenas siguientes que se saltan antes de la página
+     * @param cantidad La cantidad máxima de cadenas de la página
+     * @return Una lista con las cadenas de la página, en orden. Tiene menos de 'cantidad' cadenas si no hay suficientes.
+     * @throws IllegalArgumentException Si el inicio o la cantidad son negativos
+     */
+    public List<String> getPaginaSiguientes(String cadena, int inicio, int cantidad)
+    {
+        if (inicio < 0 || cantidad < 0) {
+            throw new IllegalArgumentException("El inicio y la cantidad no pueden ser negativos: " + inicio + ", " + cantidad);
+        }
+        List<String> pagina = new ArrayList<>();
+        long primera = (long) arbolCadenas.posicionDe(cadena) + inicio;
+        if (cantidad == 0 || primera >= arbolCadenas.size()) {
+            return pagina;
+        }
+        Iterator<String> siguientes = arbolCadenas.tailSet(arbolCadenas.obtener((int) primera), true).iterator();
+        while (pagina.size() < cantidad && siguientes.hasNext()) {
+            pagina.add(siguientes.next());
+        }
+        return pagina;
     }
 
     /**
@@ -110,7 +216,10 @@ public class SandboxConjuntos
      */
     public void agregarCadena(String cadena)
     {
-        arbolCadenas.add(cadena);
+        if (arbolCadenas.add(cadena)) {
+            indiceSinMayusculas.agregar(cadena);
+            vistaCadenas = null;
+        }
     }
 
     /**
@@ -119,17 +228,38 @@ public class SandboxConjuntos
      */
     public void eliminarCadena(String cadena)
     {
-        arbolCadenas.remove(cadena);
+        if (arbolCadenas.remove(cadena)) {
+            indiceSinMayusculas.eliminar(cadena);
+            vistaCadenas = null;
+        }
     }
 
     /**
-     * Elimina una cadena del conjunto de cadenas, independientemente de las mayúsculas o minúsculas
+     * Elimina una cadena del conjunto de cadenas, independientemente de las mayúsculas o minúsculas.
+     * 
+     * Las variantes de la cadena se buscan en el índice sin mayúsculas, así que no hay que recorrer el conjunto.
      * @param cadena La cadena que se va eliminar, sin tener en cuenta las mayúsculas o minúsculas
      */
     public void eliminarCadenaSinMayusculasOMinusculas(String cadena)
     {
-        String cadenaLower = cadena.toLowerCase();
-        arbolCadenas.removeIf(s -> s.equalsIgnoreCase(cadenaLower));
+        List<String> variantes = indiceSinMayusculas.variantes(cadena);
+        for (String variante : variantes) {
+            arbolCadenas.remove(variante);
+            indiceSinMayusculas.eliminar(variante);
+        }
+        if (!variantes.isEmpty()) {
+            vistaCadenas = null;
+        }
+    }
+
+    /**
+     * Indica si el conjunto tiene una cadena, independientemente de las mayúsculas o minúsculas
+     * @param cadena La cadena buscada, sin tener en cuenta las mayúsculas o minúsculas
+     * @return True si alguna cadena del conjunto es igual a la buscada sin tener en cuenta las mayúsculas o minúsculas
+     */
+    public boolean existeCadenaSinMayusculasOMinusculas(String cadena)
+    {
+        return indiceSinMayusculas.contieneVariante(cadena);
     }
 
     /**
@@ -138,7 +268,8 @@ public class SandboxConjuntos
     public void eliminarPrimera()
     {
         if (!arbolCadenas.isEmpty()) {
-            arbolCadenas.pollFirst();
+            indiceSinMayusculas.eliminar(arbolCadenas.pollFirst());
+            vistaCadenas = null;
         }
     }
 
@@ -146,28 +277,93 @@ public class SandboxConjuntos
      * Reinicia el conjunto de cadenas con las representaciones como Strings de los objetos contenidos en la lista del parámetro 'objetos'.
      * 
      * Use el método toString para convertir los objetos a cadenas.
+     * 
+     * En lugar de agregar las cadenas una por una, se convierten todas a un arreglo, se ordenan y el árbol se construye de una vez a partir del arreglo ordenado.
      * @param valores Una lista de objetos
      */
     public void reiniciarConjuntoCadenas(List<Object> objetos)
     {
-        arbolCadenas.clear();
+        String[] cadenas = new String[objetos.size()];
+        int cantidad = 0;
         for (Object obj : objetos) {
-            arbolCadenas.add(obj.toString());
+            cadenas[cantidad++] = obj.toString();
         }
+        construirDesde(cadenas, cantidad);
+    }
+
+    /**
+     * Reinicia el conjunto de cadenas con las representaciones como Strings de los objetos de un flujo, sin copiarlos antes a una lista. El flujo no se cierra.
+     * @param objetos Un flujo de objetos
+     */
+    public void reiniciarConjuntoCadenas(Stream<?> objetos)
+    {
+        reiniciarConjuntoCadenas(objetos.spliterator());
+    }
+
+    /**
+     * Reinicia el conjunto de cadenas con las representaciones como Strings de los objetos que retorna un iterador
+     * @param objetos Un iterador de objetos
+     */
+    public void reiniciarConjuntoCadenas(Iterator<?> objetos)
+    {
+        reiniciarConjuntoCadenas(Spliterators.spliteratorUnknownSize(objetos, Spliterator.ORDERED));
+    }
+
+    /**
+     * Reinicia el conjunto de cadenas con las representaciones como Strings de los objetos que recorre un Spliterator.
+     * 
+     * Las cadenas se recogen en una lista, que se crea con el espacio justo si el Spliterator conoce su tamaño exacto, y el árbol se construye de una vez a partir de ellas ordenadas.
+     * @param objetos Un Spliterator de objetos
+     */
+    public void reiniciarConjuntoCadenas(Spliterator<?> objetos)
+    {
+        ListaCircular<String> cadenas = new ListaCircular<>(EstimacionTamano.capacidadInicial(objetos, 0));
+        objetos.forEachRemaining(obj -> cadenas.add(obj.toString()));
+        construirDesde(cadenas.toArray(new String[0]), cadenas.size());
     }
 
     /**
      * Modifica el conjunto de cadenas para que todas las cadenas estén en mayúsculas.
      * 
      * Note que esta operación podría modificar el órden de los elementos dentro del conjunto.
+     * 
+     * Las cadenas se copian a un arreglo y el conjunto se reconstruye a partir de él. Volver mayúsculas cambia poco el orden, así que ordenar el arreglo casi ordenado es rápido.
      */
     public void volverMayusculas()
     {
-        NavigableSet<String> nuevoConjunto = new TreeSet<>();
-        for (String cadena : arbolCadenas) {
-            nuevoConjunto.add(cadena.toUpperCase());
+        String[] cadenas = arbolCadenas.toArray(new String[0]);
+        for (int i = 0; i < cadenas.length; i++) {
+            cadenas[i] = cadenas[i].toUpperCase();
+        }
+        construirDesde(cadenas, cadenas.length);
+    }
+
+    /**
+     * Reemplaza el conjunto por las primeras posiciones de un arreglo de cadenas, que puede estar desordenado y tener repetidas.
+     * 
+     * El contenido del árbol y el índice anterior se descartan antes de construir los nuevos, así que nunca ocupan memoria al mismo tiempo. El arreglo se ordena (en paralelo si alcanza
+     * el umbral) y el árbol se llena en tiempo lineal a partir del arreglo ordenado, saltando las cadenas repetidas. El árbol sigue siendo el mismo objeto, así que las colecciones
+     * retornadas antes por getSiguientes siguen reflejando el conjunto.
+     * @param cadenas El arreglo con las cadenas. Su contenido queda ordenado.
+     * @param cantidad La cantidad de posiciones del arreglo que se usan
+     */
+    private void construirDesde(String[] cadenas, int cantidad)
+    {
+        arbolCadenas.clear();
+        indiceSinMayusculas = null;
+        vistaCadenas = null;
+        if (cantidad >= umbralParalelo) {
+            Arrays.parallelSort(cadenas, 0, cantidad);
+        } else {
+            Arrays.sort(cadenas, 0, cantidad);
+        }
+
+        arbolCadenas.reemplazarConOrdenadas(cadenas, cantidad);
+        VariantesSinMayusculas indice = new VariantesSinMayusculas(arbolCadenas.size());
+        for (int i = 0; i < cantidad; i++) {
+            indice.agregar(cadenas[i]);
         }
-        arbolCadenas = nuevoConjunto;
+        indiceSinMayusculas = indice;
     }
 
     /**
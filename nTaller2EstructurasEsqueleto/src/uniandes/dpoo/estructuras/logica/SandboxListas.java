@@ -1,15 +1,21 @@
 package uniandes.dpoo.estructuras.logica;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
 
 /**
  * Esta clase tiene un conjunto de métodos para practicar operaciones sobre listas de enteros y de cadenas.
  *
  * Todos los métodos deben operar sobre los atributos listaEnteros y listaCadenas.
  * 
- * No pueden agregarse nuevos atributos.
+ * Los demás atributos no guardan valores propios: son el generador de enteros aleatorios, el umbral para operar en paralelo y un índice de apariciones que se deriva de listaCadenas.
  * 
  * Implemente los métodos usando operaciones sobre listas (ie., no haga cosas como construir arreglos para evitar la manipulación de listas).
  * 
@@ -17,23 +23,105 @@ import java.util.List;
  */
 public class SandboxListas
 {
+    /**
+     * El valor del umbral paralelo con el que ninguna operación se hace en paralelo
+     */
+    public static final int SIN_PARALELISMO = Integer.MAX_VALUE;
+
     /**
      * Una lista de enteros para realizar varias de las siguientes operaciones.
+     *
+     * Los valores se guardan como int, sin convertirlos a Integer.
+     */
+    private ListaEnteros listaEnteros;
+
+    /**
+     * Una lista de cadenas para realizar varias de las siguientes operaciones.
+     *
+     * Las cadenas se guardan en un arreglo circular, así que recorrerla y ordenarla no tiene que saltar entre nodos como en una LinkedList.
      */
-    private ArrayList<Integer> listaEnteros;
+    private ListaCircular<String> listaCadenas;
 
     /**
-     * Una lista de cadenas para realizar varias de las siguientes operaciones
+     * El generador que se usa para producir los valores aleatorios de generarEnteros
      */
-    private LinkedList<String> listaCadenas;
+    private GeneradorEnteros generadorEnteros;
+
+    /**
+     * La cantidad de enteros a partir de la cual organizarEnteros ordena en paralelo
+     */
+    private int umbralParalelo;
+
+    /**
+     * Las apariciones de cada cadena de la lista, sin distinguir mayúsculas de minúsculas. Es null si el índice no está activo.
+     */
+    private ConteoCadenasSinMayusculas indiceApariciones;
 
     /**
      * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
      */
     public SandboxListas( )
     {
-        listaEnteros = new ArrayList<>();
-        listaCadenas = new LinkedList<>();
+        listaEnteros = new ListaEnteros();
+        listaCadenas = new ListaCircular<>();
+        generadorEnteros = new GeneradorEnteros( );
+        umbralParalelo = SIN_PARALELISMO;
+    }
+
+    /**
+     * Retorna la cantidad de enteros a partir de la cual organizarEnteros ordena en paralelo
+     * @return El umbral paralelo
+     */
+    public int getUmbralParalelo( )
+    {
+        return umbralParalelo;
+    }
+
+    /**
+     * Activa el ordenamiento en paralelo para las listas con al menos 'umbral' enteros. Con SIN_PARALELISMO (el valor inicial) siempre se ordena en un solo hilo.
+     * @param umbral La cantidad mínima de enteros para ordenar en paralelo
+     * @throws IllegalArgumentException Si el umbral no es positivo
+     */
+    public void setUmbralParalelo( int umbral )
+    {
+        if (umbral < 1) {
+            throw new IllegalArgumentException("El umbral debe ser positivo: " + umbral);
+        }
+        umbralParalelo = umbral;
+    }
+
+    /**
+     * Indica si contarApariciones(String) usa el índice de apariciones
+     * @return True si el índice está activo
+     */
+    public boolean tieneIndiceApariciones( )
+    {
+        return indiceApariciones != null;
+    }
+
+    /**
+     * Activa o desactiva el índice de apariciones de las cadenas.
+     *
+     * Con el índice activo, agregarCadena, eliminarCadena y reiniciarArregloCadenas mantienen la cantidad de apariciones de cada cadena y contarApariciones(String) responde en O(1)
+     * sin recorrer la lista. El índice está inactivo al principio porque ocupa memoria adicional.
+     * @param activo True para construir el índice con las cadenas actuales, false para descartarlo
+     */
+    public void setIndiceApariciones( boolean activo )
+    {
+        if (!activo) {
+            indiceApariciones = null;
+        } else if (indiceApariciones == null) {
+            reconstruirIndiceApariciones();
+        }
+    }
+
+    /**
+     * Cambia el generador usado por generarEnteros. Un generador con una semilla conocida hace que los valores generados sean reproducibles.
+     * @param generador El nuevo generador de enteros
+     */
+    public void setGeneradorEnteros( GeneradorEnteros generador )
+    {
+        generadorEnteros = generador;
     }
 
     /**
@@ -42,7 +130,7 @@ public class SandboxListas
      */
     public ArrayList<Integer> getCopiaEnteros( )
     {
-        return new ArrayList<>(listaEnteros);
+        return new ArrayList<>(listaEnteros.comoLista());
     }
 
     /**
@@ -54,17 +142,37 @@ public class SandboxListas
         return new LinkedList<>(listaCadenas);
     }
 
+    /**
+     * Retorna una vista inmodificable de la lista de enteros, sin copiarla.
+     *
+     * La vista comparte la memoria de la lista y no cambia aunque la lista cambie después: antes de modificar valores que ve alguna vista, la lista los copia. Mientras la lista no
+     * cambie, todos los llamados retornan la misma vista.
+     * @return Una lista inmodificable con los enteros actuales
+     */
+    public List<Integer> getVistaEnteros( )
+    {
+        return listaEnteros.instantanea();
+    }
+
+    /**
+     * Retorna una vista inmodificable de la lista de cadenas, sin copiarla.
+     *
+     * La vista comparte la memoria de la lista y no cambia aunque la lista cambie después: antes de modificar cadenas que ve alguna vista, la lista las copia. Mientras la lista no
+     * cambie, todos los llamados retornan la misma vista.
+     * @return Una lista inmodificable con las cadenas actuales
+     */
+    public List<String> getVistaCadenas( )
+    {
+        return listaCadenas.instantanea();
+    }
+
     /**
      * Retorna un arreglo con los valores de la lista de enteros
      * @return Un arreglo de enteros
      */
     public int[] getEnterosComoArreglo( )
     {
-        int[] arreglo = new int[listaEnteros.size()];
-        for (int i = 0; i < listaEnteros.size(); i++) {
-            arreglo[i] = listaEnteros.get(i);
-        }
-        return arreglo;
+        return listaEnteros.aArreglo();
     }
 
     /**
@@ -73,7 +181,7 @@ public class SandboxListas
      */
     public int getCantidadEnteros( )
     {
-        return listaEnteros.size();
+        return listaEnteros.tamano();
     }
 
     /**
@@ -91,7 +199,7 @@ public class SandboxListas
      */
     public void agregarEntero( int entero )
     {
-        listaEnteros.add(entero);
+        listaEnteros.agregar(entero);
     }
 
     /**
@@ -101,6 +209,9 @@ public class SandboxListas
     public void agregarCadena( String cadena )
     {
         listaCadenas.add(cadena);
+        if (indiceApariciones != null) {
+            indiceApariciones.sumar(cadena, 1);
+        }
     }
 
     /**
@@ -109,7 +220,7 @@ public class SandboxListas
      */
     public void eliminarEntero( int valor )
     {
-        listaEnteros.removeIf(e -> e == valor);
+        listaEnteros.eliminarValor(valor);
     }
 
     /**
@@ -118,7 +229,11 @@ public class SandboxListas
      */
     public void eliminarCadena( String cadena )
     {
+        int antes = listaCadenas.size();
         listaCadenas.removeIf(e -> e.equals(cadena));
+        if (indiceApariciones != null) {
+            indiceApariciones.sumar(cadena, listaCadenas.size() - antes);
+        }
     }
 
     /**
@@ -129,11 +244,11 @@ public class SandboxListas
     public void insertarEntero( int entero, int posicion )
     {
         if (posicion < 0) {
-            listaEnteros.add(0, entero);
-        } else if (posicion >= listaEnteros.size()) {
-            listaEnteros.add(entero);
+            listaEnteros.insertar(0, entero);
+        } else if (posicion >= listaEnteros.tamano()) {
+            listaEnteros.agregar(entero);
         } else {
-            listaEnteros.add(posicion, entero);
+            listaEnteros.insertar(posicion, entero);
         }
     }
 
@@ -143,20 +258,33 @@ public class SandboxListas
      */
     public void eliminarEnteroPorPosicion( int posicion )
     {
-        if (posicion >= 0 && posicion < listaEnteros.size()) {
-            listaEnteros.remove(posicion);
+        if (posicion >= 0 && posicion < listaEnteros.tamano()) {
+            listaEnteros.eliminarPosicion(posicion);
         }
     }
 
+    /**
+     * Aplica un grupo de inserciones y eliminaciones por posición sobre la lista de enteros en un solo recorrido.
+     *
+     * Las posiciones de todas las ediciones se refieren a la lista como estaba antes del llamado. Cada edición se comporta como insertarEntero o eliminarEnteroPorPosicion sobre esa
+     * lista original.
+     * @param ediciones Las ediciones que se deben aplicar
+     */
+    public void aplicarEdiciones( List<Edicion> ediciones )
+    {
+        listaEnteros.aplicarEdiciones(ediciones);
+    }
+
     /**
      * Reinicia la lista de enteros con los valores truncados de un arreglo de valores decimales
      * @param valores Un arreglo de valores decimales
      */
     public void reiniciarArregloEnteros( double[] valores )
     {
-        listaEnteros.clear();
+        listaEnteros.limpiar();
+        listaEnteros.asegurarCapacidad(valores.length);
         for (double valor : valores) {
-            listaEnteros.add((int) valor);
+            listaEnteros.agregar((int) valor);
         }
     }
 
@@ -170,6 +298,74 @@ public class SandboxListas
         for (Object obj : objetos) {
             listaCadenas.add(obj.toString());
         }
+        if (indiceApariciones != null) {
+            reconstruirIndiceApariciones();
+        }
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores truncados de un flujo de valores decimales, sin copiarlos antes a un arreglo. El flujo no se cierra.
+     * @param valores Un flujo de valores decimales
+     */
+    public void reiniciarArregloEnteros( DoubleStream valores )
+    {
+        reiniciarArregloEnteros(valores.spliterator());
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores truncados que retorna un iterador de valores decimales
+     * @param valores Un iterador de valores decimales
+     */
+    public void reiniciarArregloEnteros( PrimitiveIterator.OfDouble valores )
+    {
+        reiniciarArregloEnteros(Spliterators.spliteratorUnknownSize(valores, Spliterator.ORDERED));
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores truncados que recorre un Spliterator de valores decimales.
+     *
+     * Si el Spliterator conoce su tamaño, la lista reserva la memoria una sola vez antes de recorrerlo.
+     * @param valores Un Spliterator de valores decimales
+     */
+    public void reiniciarArregloEnteros( Spliterator.OfDouble valores )
+    {
+        ListaEnteros nueva = new ListaEnteros(EstimacionTamano.capacidadInicial(valores, 0));
+        valores.forEachRemaining((double valor) -> nueva.agregar((int) valor));
+        listaEnteros = nueva;
+    }
+
+    /**
+     * Reinicia la lista de cadenas con las representaciones como Strings de los objetos de un flujo, sin copiarlos antes a una lista. El flujo no se cierra.
+     * @param objetos Un flujo de objetos
+     */
+    public void reiniciarArregloCadenas( Stream<?> objetos )
+    {
+        reiniciarArregloCadenas(objetos.spliterator());
+    }
+
+    /**
+     * Reinicia la lista de cadenas con las representaciones como Strings de los objetos que retorna un iterador
+     * @param objetos Un iterador de objetos
+     */
+    public void reiniciarArregloCadenas( Iterator<?> objetos )
+    {
+        reiniciarArregloCadenas(Spliterators.spliteratorUnknownSize(objetos, Spliterator.ORDERED));
+    }
+
+    /**
+     * Reinicia la lista de cadenas con las representaciones como Strings de los objetos que recorre un Spliterator.
+     *
+     * Si el Spliterator conoce su tamaño, la lista reserva la memoria una sola vez antes de recorrerlo.
+     * @param objetos Un Spliterator de objetos
+     */
+    public void reiniciarArregloCadenas( Spliterator<?> objetos )
+    {
+        ListaCircular<String> nueva = new ListaCircular<>(EstimacionTamano.capacidadInicial(objetos, 0));
+        objetos.forEachRemaining(objeto -> nueva.add(objeto.toString()));
+        listaCadenas = nueva;
+        if (indiceApariciones != null) {
+            reconstruirIndiceApariciones();
+        }
     }
 
     /**
@@ -177,8 +373,11 @@ public class SandboxListas
      */
     public void volverPositivos( )
     {
-        for (int i = 0; i < listaEnteros.size(); i++) {
-            listaEnteros.set(i, Math.abs(listaEnteros.get(i)));
+        int[] valores = listaEnteros.arregloModificable();
+        for (int i = 0; i < listaEnteros.tamano(); i++) {
+            if (valores[i] < 0) {
+                valores[i] = -valores[i];
+            }
         }
     }
 
@@ -187,7 +386,7 @@ public class SandboxListas
      */
     public void organizarEnteros( )
     {
-        listaEnteros.sort((a, b) -> b - a);
+        listaEnteros.ordenarDescendente(listaEnteros.tamano() >= umbralParalelo);
     }
 
     /**
@@ -206,8 +405,9 @@ public class SandboxListas
     public int contarApariciones( int valor )
     {
         int count = 0;
-        for (int num : listaEnteros) {
-            if (num == valor) {
+        int[] valores = listaEnteros.arreglo();
+        for (int i = 0; i < listaEnteros.tamano(); i++) {
+            if (valores[i] == valor) {
                 count++;
             }
         }
@@ -221,6 +421,10 @@ public class SandboxListas
      */
     public int contarApariciones( String cadena )
     {
+        if (indiceApariciones != null) {
+            return indiceApariciones.contar(cadena);
+        }
+
         int count = 0;
         String cadenaMinusculas = cadena.toLowerCase(); // Convertimos la cadena de búsqueda a minúsculas
         for (String str : listaCadenas) {
@@ -231,22 +435,48 @@ public class SandboxListas
         return count;
     }
 
+    /**
+     * Calcula el mínimo, el máximo, la suma, el promedio y la varianza de la lista de enteros en un solo recorrido
+     * @return Las estadísticas de la lista de enteros
+     */
+    public EstadisticasEnteros calcularEstadisticasEnteros( )
+    {
+        return EstadisticasEnteros.calcular(listaEnteros.arreglo(), 0, listaEnteros.tamano());
+    }
+
     /**
      * Cuenta cuántos valores dentro de la lista de enteros están repetidos
      * @return La cantidad de enteros diferentes que aparecen más de una vez
      */
     public int contarEnterosRepetidos( )
     {
-        ArrayList<Integer> contados = new ArrayList<>();
-        ArrayList<Integer> repetidos = new ArrayList<>();
-        for (int num : listaEnteros) {
-            if (contados.contains(num) && !repetidos.contains(num)) {
-                repetidos.add(num);
-            } else {
-                contados.add(num);
+        return buscarRepetidos().tamano();
+    }
+
+    /**
+     * Retorna los valores que aparecen más de una vez en la lista de enteros, cada uno una sola vez
+     * @return Un arreglo con los valores repetidos, en el orden en que aparece su segunda ocurrencia
+     */
+    public int[] getEnterosRepetidos( )
+    {
+        return buscarRepetidos().aArreglo();
+    }
+
+    /**
+     * Recorre la lista una vez contando las apariciones de cada valor en una tabla de hash, y guarda cada valor en el momento en que aparece por segunda vez
+     * @return Una lista con los valores repetidos
+     */
+    private ListaEnteros buscarRepetidos( )
+    {
+        TablaHashEnteros contados = new TablaHashEnteros();
+        ListaEnteros repetidos = new ListaEnteros();
+        int[] valores = listaEnteros.arreglo();
+        for (int i = 0; i < listaEnteros.tamano(); i++) {
+            if (contados.incrementar(valores[i]) == 2) {
+                repetidos.agregar(valores[i]);
             }
         }
-        return repetidos.size();
+        return repetidos;
     }
 
     /**
@@ -256,29 +486,48 @@ public class SandboxListas
      */
     public boolean compararArregloEnteros( int[] otroArreglo )
     {
-        if (otroArreglo.length != listaEnteros.size()) {
-            return false;
-        }
-        for (int i = 0; i < otroArreglo.length; i++) {
-            if (otroArreglo[i] != listaEnteros.get(i)) {
-                return false;
-            }
-        }
-        return true;
+        return otroArreglo.length == listaEnteros.tamano() && buscarPrimeraDiferencia(otroArreglo) == -1;
     }
 
     /**
-     * Cambia los elementos de la lista de enteros por una nueva serie de valores generada de forma aleatoria
+     * Busca la primera posición en la que la lista de enteros y el arreglo recibido son diferentes.
+     *
+     * Cuando la máquina virtual lo permite, la comparación revisa varios enteros a la vez con instrucciones vectoriales.
+     * @param otroArreglo El arreglo de enteros con el que se compara
+     * @return La primera posición diferente, o -1 si son iguales. Si uno es prefijo del otro, es el tamaño del más corto.
+     */
+    public int buscarPrimeraDiferencia( int[] otroArreglo )
+    {
+        return DiferenciaEnteros.primeraDiferencia(listaEnteros.arreglo(), listaEnteros.tamano(), otroArreglo, otroArreglo.length);
+    }
+
+    /**
+     * Cambia los elementos de la lista de enteros por una nueva serie de valores generada de forma aleatoria.
+     *
+     * Si la cantidad no es positiva la lista queda vacía. Los valores se generan en paralelo si la cantidad alcanza el umbral paralelo.
      * @param cantidad La cantidad de elementos que debe haber en la lista
      * @param minimo El valor mínimo para los números generados
      * @param maximo El valor máximo para los números generados
+     * @throws IllegalArgumentException Si hay que generar algún valor y el mínimo es mayor al máximo. En ese caso la lista no cambia.
      */
     public void generarEnteros( int cantidad, int minimo, int maximo )
     {
-        listaEnteros.clear();
-        for (int i = 0; i < cantidad; i++) {
-            int valor = minimo + (int)(Math.random() * (maximo - minimo + 1));
-            listaEnteros.add(valor);
+        // El arreglo generado pasa a ser directamente el almacenamiento de la lista
+        int n = Math.max(cantidad, 0);
+        int[] valores = new int[n];
+        generadorEnteros.llenar(valores, 0, n, minimo, maximo, n >= umbralParalelo);
+        listaEnteros = new ListaEnteros(valores, n);
+    }
+
+    /**
+     * Construye el índice de apariciones a partir de las cadenas actuales de la lista
+     */
+    private void reconstruirIndiceApariciones( )
+    {
+        ConteoCadenasSinMayusculas indice = new ConteoCadenasSinMayusculas(listaCadenas.size());
+        for (String cadena : listaCadenas) {
+            indice.sumar(cadena, 1);
         }
+        indiceApariciones = indice;
     }
 }
@@ -0,0 +1,470 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+/**
+ * Esta clase tiene los mismos métodos de SandboxListas, pero se puede usar desde varios hilos al mismo tiempo.
+ *
+ * Las operaciones se delegan a un SandboxListas protegido por un StampedLock:
+ * <ul>
+ * <li>Las consultas de un solo valor (las cantidades y la configuración) usan una lectura optimista: no toman el candado y solo lo toman si un escritor intervino durante la lectura.</li>
+ * <li>Las demás consultas toman el candado de lectura, que no bloquea a otros lectores, así que varias consultas como contarApariciones o compararArregloEnteros corren a la vez.</li>
+ * <li>Las operaciones que modifican las listas toman el candado de escritura, así que cada una se ve como si hubiera ocurrido en un único instante.</li>
+ * </ul>
+ *
+ * Los métodos reiniciar que reciben un Iterator, un Spliterator o un Stream recorren la fuente con el candado de escritura tomado, así que una fuente lenta demora a los demás hilos.
+ */
+public class SandboxListasConcurrente
+{
+    /**
+     * El sandbox que hace las operaciones. Solo se usa con el candado tomado, o dentro de una lectura optimista que luego se valida.
+     */
+    private final SandboxListas sandbox;
+
+    /**
+     * El candado que coordina a los lectores y los escritores
+     */
+    private final StampedLock candado;
+
+    /**
+     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
+     */
+    public SandboxListasConcurrente( )
+    {
+        sandbox = new SandboxListas();
+        candado = new StampedLock();
+    }
+
+    /**
+     * Retorna la cantidad de enteros a partir de la cual organizarEnteros ordena en paralelo
+     * @return El umbral paralelo
+     */
+    public int getUmbralParalelo( )
+    {
+        return leerOptimista(sandbox::getUmbralParalelo);
+    }
+
+    /**
+     * Activa el ordenamiento en paralelo para las listas con al menos 'umbral' enteros
+     * @param umbral La cantidad mínima de enteros para ordenar en paralelo
+     * @throws IllegalArgumentException Si el umbral no es positivo
+     */
+    public void setUmbralParalelo( int umbral )
+    {
+        escribir(() -> sandbox.setUmbralParalelo(umbral));
+    }
+
+    /**
+     * Indica si contarApariciones(String) usa el índice de apariciones
+     * @return True si el índice está activo
+     */
+    public boolean tieneIndiceApariciones( )
+    {
+        return leerOptimista(() -> sandbox.tieneIndiceApariciones() ? 1 : 0) == 1;
+    }
+
+    /**
+     * Activa o desactiva el índice de apariciones de las cadenas
+     * @param activo True para construir el índice con las cadenas actuales, false para descartarlo
+     */
+    public void setIndiceApariciones( boolean activo )
+    {
+        escribir(() -> sandbox.setIndiceApariciones(activo));
+    }
+
+    /**
+     * Cambia el generador usado por generarEnteros
+     * @param generador El nuevo generador de enteros
+     */
+    public void setGeneradorEnteros( GeneradorEnteros generador )
+    {
+        escribir(() -> sandbox.setGeneradorEnteros(generador));
+    }
+
+    /**
+     * Retorna una copia de la lista de enteros
+     * @return Una copia de la lista de enteros
+     */
+    public ArrayList<Integer> getCopiaEnteros( )
+    {
+        // Los valores se convierten a Integer después de soltar el candado
+        int[] valores = getEnterosComoArreglo();
+        ArrayList<Integer> copia = new ArrayList<>(valores.length);
+        for (int valor : valores) {
+            copia.add(valor);
+        }
+        return copia;
+    }
+
+    /**
+     * Retorna una copia de la lista de cadenas
+     * @return Una copia de la lista de cadenas
+     */
+    public LinkedList<String> getCopiaCadenas( )
+    {
+        return leer(sandbox::getCopiaCadenas);
+    }
+
+    /**
+     * Retorna una vista inmodificable de la lista de enteros, sin copiarla. La vista no cambia aunque la lista cambie después, así que se puede leer sin el candado.
+     * @return Una lista inmodificable con los enteros actuales
+     */
+    public List<Integer> getVistaEnteros( )
+    {
+        // Crear la vista marca el arreglo como compartido, así que se necesita el candado de escritura
+        long sello = candado.writeLock();
+        try {
+            return sandbox.getVistaEnteros();
+        } finally {
+            candado.unlockWrite(sello);
+        }
+    }
+
+    /**
+     * Retorna una vista inmodificable de la lista de cadenas, sin copiarla. La vista no cambia aunque la lista cambie después, así que se puede leer sin el candado.
+     * @return Una lista inmodificable con las cadenas actuales
+     */
+    public List<String> getVistaCadenas( )
+    {
+        long sello = candado.writeLock();
+        try {
+            return sandbox.getVistaCadenas();
+        } finally {
+            candado.unlockWrite(sello);
+        }
+    }
+
+    /**
+     * Retorna un arreglo con los valores de la lista de enteros
+     * @return Un arreglo de enteros
+     */
+    public int[] getEnterosComoArreglo( )
+    {
+        return leer(sandbox::getEnterosComoArreglo);
+    }
+
+    /**
+     * Retorna la cantidad de valores en la lista de enteros
+     * @return La cantidad de valores en la lista de enteros
+     */
+    public int getCantidadEnteros( )
+    {
+        return leerOptimista(sandbox::getCantidadEnteros);
+    }
+
+    /**
+     * Retorna la cantidad de valores en la lista de cadenas
+     * @return La cantidad de valores en la lista de cadenas
+     */
+    public int getCantidadCadenas( )
+    {
+        return leerOptimista(sandbox::getCantidadCadenas);
+    }
+
+    /**
+     * Agrega un nuevo valor al final de la lista de enteros
+     * @param entero El valor que se va a agregar
+     */
+    public void agregarEntero( int entero )
+    {
+        escribir(() -> sandbox.agregarEntero(entero));
+    }
+
+    /**
+     * Agrega un nuevo valor al final de la lista de cadenas
+     * @param cadena La cadena que se va a agregar
+     */
+    public void agregarCadena( String cadena )
+    {
+        escribir(() -> sandbox.agregarCadena(cadena));
+    }
+
+    /**
+     * Elimina todas las apariciones de un determinado valor dentro de la lista de enteros
+     * @param valor El valor que se va eliminar
+     */
+    public void eliminarEntero( int valor )
+    {
+        escribir(() -> sandbox.eliminarEntero(valor));
+    }
+
+    /**
+     * Elimina todas las apariciones de un determinado valor dentro de la lista de cadenas
+     * @param cadena La cadena que se va eliminar
+     */
+    public void eliminarCadena( String cadena )
+    {
+        escribir(() -> sandbox.eliminarCadena(cadena));
+    }
+
+    /**
+     * Inserta un nuevo entero en la lista de enteros en la posición especificada
+     * @param entero El nuevo valor que debe agregarse
+     * @param posicion La posición donde debe quedar el nuevo valor
+     */
+    public void insertarEntero( int entero, int posicion )
+    {
+        escribir(() -> sandbox.insertarEntero(entero, posicion));
+    }
+
+    /**
+     * Elimina un valor de la lista de enteros dado su posición
+     * @param posicion La posición del elemento a eliminar
+     */
+    public void eliminarEnteroPorPosicion( int posicion )
+    {
+        escribir(() -> sandbox.eliminarEnteroPorPosicion(posicion));
+    }
+
+    /**
+     * Aplica un grupo de inserciones y eliminaciones por posición sobre la lista de enteros. Ningún otro hilo ve el grupo aplicado a medias.
+     * @param ediciones Las ediciones que se deben aplicar
+     */
+    public void aplicarEdiciones( List<Edicion> ediciones )
+    {
+        escribir(() -> sandbox.aplicarEdiciones(ediciones));
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores truncados de un arreglo de valores decimales
+     * @param valores Un arreglo de valores decimales
+     */
+    public void reiniciarArregloEnteros( double[] valores )
+    {
+        escribir(() -> sandbox.reiniciarArregloEnteros(valores));
+    }
+
+    /**
+     * Reinicia la lista de cadenas con las representaciones como Strings de los objetos en una lista
+     * @param objetos Una lista de objetos
+     */
+    public void reiniciarArregloCadenas( List<Object> objetos )
+    {
+        escribir(() -> sandbox.reiniciarArregloCadenas(objetos));
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores truncados de un flujo de valores decimales. El flujo no se cierra.
+     * @param valores Un flujo de valores decimales
+     */
+    public void reiniciarArregloEnteros( DoubleStream valores )
+    {
+        escribir(() -> sandbox.reiniciarArregloEnteros(valores));
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores truncados que retorna un iterador de valores decimales
+     * @param valores Un iterador de valores decimales
+     */
+    public void reiniciarArregloEnteros( PrimitiveIterator.OfDouble valores )
+    {
+        escribir(() -> sandbox.reiniciarArregloEnteros(valores));
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores truncados que recorre un Spliterator de valores decimales
+     * @param valores Un Spliterator de valores decimales
+     */
+    public void reiniciarArregloEnteros( Spliterator.OfDouble valores )
+    {
+        escribir(() -> sandbox.reiniciarArregloEnteros(valores));
+    }
+
+    /**
+     * Reinicia la lista de cadenas con las representaciones como Strings de los objetos de un flujo. El flujo no se cierra.
+     * @param objetos Un flujo de objetos
+     */
+    public void reiniciarArregloCadenas( Stream<?> objetos )
+    {
+        escribir(() -> sandbox.reiniciarArregloCadenas(objetos));
+    }
+
+    /**
+     * Reinicia la lista de cadenas con las representaciones como Strings de los objetos que retorna un iterador
+     * @param objetos Un iterador de objetos
+     */
+    public void reiniciarArregloCadenas( Iterator<?> objetos )
+    {
+        escribir(() -> sandbox.reiniciarArregloCadenas(objetos));
+    }
+
+    /**
+     * Reinicia la lista de cadenas con las representaciones como Strings de los objetos que recorre un Spliterator
+     * @param objetos Un Spliterator de objetos
+     */
+    public void reiniciarArregloCadenas( Spliterator<?> objetos )
+    {
+        escribir(() -> sandbox.reiniciarArregloCadenas(objetos));
+    }
+
+    /**
+     * Modifica la lista de enteros para que todos los valores sean positivos
+     */
+    public void volverPositivos( )
+    {
+        escribir(sandbox::volverPositivos);
+    }
+
+    /**
+     * Modifica la lista de enteros para que todos los valores estén ordenados de mayor a menor
+     */
+    public void organizarEnteros( )
+    {
+        escribir(sandbox::organizarEnteros);
+    }
+
+    /**
+     * Modifica la lista de cadenas para que todos los valores estén ordenados lexicográficamente
+     */
+    public void organizarCadenas( )
+    {
+        escribir(sandbox::organizarCadenas);
+    }
+
+    /**
+     * Cuenta cuántas veces aparece un valor en la lista de enteros
+     * @param valor El valor buscado
+     * @return La cantidad de veces que aparece el valor
+     */
+    public int contarApariciones( int valor )
+    {
+        return leer(() -> sandbox.contarApariciones(valor));
+    }
+
+    /**
+     * Cuenta cuántas veces aparece una cadena en la lista de cadenas
+     * @param cadena La cadena buscada
+     * @return La cantidad de veces que aparece la cadena
+     */
+    public int contarApariciones( String cadena )
+    {
+        return leer(() -> sandbox.contarApariciones(cadena));
+    }
+
+    /**
+     * Calcula el mínimo, el máximo, la suma, el promedio y la varianza de la lista de enteros en un solo recorrido
+     * @return Las estadísticas de la lista de enteros
+     */
+    public EstadisticasEnteros calcularEstadisticasEnteros( )
+    {
+        return leer(sandbox::calcularEstadisticasEnteros);
+    }
+
+    /**
+     * Cuenta cuántos valores dentro de la lista de enteros están repetidos
+     * @return La cantidad de enteros diferentes que aparecen más de una vez
+     */
+    public int contarEnterosRepetidos( )
+    {
+        return leer(sandbox::contarEnterosRepetidos);
+    }
+
+    /**
+     * Retorna los valores que aparecen más de una vez en la lista de enteros, cada uno una sola vez
+     * @return Un arreglo con los valores repetidos, en el orden en que aparece su segunda ocurrencia
+     */
+    public int[] getEnterosRepetidos( )
+    {
+        return leer(sandbox::getEnterosRepetidos);
+    }
+
+    /**
+     * Compara la lista de enteros con un arreglo de enteros y verifica que sean iguales
+     * @param otroArreglo El arreglo de enteros con el que se compara
+     * @return True si la lista y el arreglo tienen los mismos valores en el mismo orden
+     */
+    public boolean compararArregloEnteros( int[] otroArreglo )
+    {
+        return leer(() -> sandbox.compararArregloEnteros(otroArreglo));
+    }
+
+    /**
+     * Busca la primera posición en la que la lista de enteros y el arreglo recibido son diferentes
+     * @param otroArreglo El arreglo de enteros con el que se compara
+     * @return La primera posición diferente, o -1 si son iguales. Si uno es prefijo del otro, es el tamaño del más corto.
+     */
+    public int buscarPrimeraDiferencia( int[] otroArreglo )
+    {
+        return leer(() -> sandbox.buscarPrimeraDiferencia(otroArreglo));
+    }
+
+    /**
+     * Cambia los elementos de la lista de enteros por una nueva serie de valores generada de forma aleatoria
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo )
+    {
+        escribir(() -> sandbox.generarEnteros(cantidad, minimo, maximo));
+    }
+
+    /**
+     * Hace una consulta de un solo valor sin tomar el candado. Si un escritor intervino mientras tanto, repite la consulta con el candado de lectura.
+     */
+    private int leerOptimista( IntSupplier consulta )
+    {
+        long sello = candado.tryOptimisticRead();
+        if (sello != 0) {
+            int valor = consulta.getAsInt();
+            if (candado.validate(sello)) {
+                return valor;
+            }
+        }
+        sello = candado.readLock();
+        try {
+            return consulta.getAsInt();
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Hace una consulta con el candado de lectura
+     */
+    private <T> T leer( Supplier<T> consulta )
+    {
+        long sello = candado.readLock();
+        try {
+            return consulta.get();
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Hace una consulta que retorna un entero con el candado de lectura
+     */
+    private int leer( IntSupplier consulta )
+    {
+        long sello = candado.readLock();
+        try {
+            return consulta.getAsInt();
+        } finally {
+            candado.unlockRead(sello);
+        }
+    }
+
+    /**
+     * Hace una modificación con el candado de escritura
+     */
+    private void escribir( Runnable modificacion )
+    {
+        long sello = candado.writeLock();
+        try {
+            modificacion.run();
+        } finally {
+            candado.unlockWrite(sello);
+        }
+    }
+}
@@ -2,8 +2,12 @@ package uniandes.dpoo.estructuras.logica;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
 import java.util.ArrayList;
 
 /**
@@ -184,17 +188,67 @@ public class SandboxMapas
         }
     }
 
+    /**
+     * Reinicia el mapa de cadenas con las representaciones como Strings de los objetos de un flujo, sin copiarlos antes a una lista. El flujo no se cierra.
+     * @param objetos Un flujo de objetos
+     */
+    public void reiniciarMapaCadenas(Stream<?> objetos)
+    {
+        reiniciarMapaCadenas(objetos.spliterator());
+    }
+
+    /**
+     * Reinicia el mapa de cadenas con las representaciones como Strings de los objetos que retorna un iterador
+     * @param objetos Un iterador de objetos
+     */
+    public void reiniciarMapaCadenas(Iterator<?> objetos)
+    {
+        reiniciarMapaCadenas(Spliterators.spliteratorUnknownSize(objetos, Spliterator.ORDERED));
+    }
+
+    /**
+     * Reinicia el mapa de cadenas con las representaciones como Strings de los objetos que recorre un Spliterator.
+     * 
+     * Si el Spliterator conoce su tamaño, el mapa se crea con suficientes posiciones para que no tenga que crecer mientras se llena.
+     * @param objetos Un Spliterator de objetos
+     */
+    public void reiniciarMapaCadenas(Spliterator<?> objetos)
+    {
+        long esperadas = EstimacionTamano.capacidadInicial(objetos, 0);
+        // Con el factor de carga por defecto (0.75) el mapa crece cuando supera 3/4 de su capacidad
+        Map<String, String> nuevo = new HashMap<>((int) Math.min(EstimacionTamano.CAPACIDAD_MAXIMA, esperadas * 4 / 3 + 1));
+        objetos.forEachRemaining(objeto -> {
+            String cadena = objeto.toString();
+            nuevo.put(new StringBuilder(cadena).reverse().toString(), cadena);
+        });
+        mapaCadenas = nuevo;
+    }
+
     /**
      * Modifica el mapa de cadenas reemplazando las llaves para que ahora todas estén en mayúsculas pero sigan conservando las mismas cadenas asociadas.
+     * 
+     * El mapa se modifica en su lugar, sin construir otro mapa: las llaves que ya están en mayúsculas no se tocan, y solo las entradas cuya llave cambia se sacan del mapa y se vuelven
+     * a agregar con la llave nueva. Como el mapa no crece, su tabla se reutiliza.
      */
     public void volverMayusculas()
     {
-        Map<String, String> nuevoMapa = new HashMap<>();
-        for (Map.Entry<String, String> entry : mapaCadenas.entrySet())
+        // Las entradas que cambian de llave se guardan como parejas llave, valor
+        List<String> pendientes = new ArrayList<>();
+        for (Iterator<Map.Entry<String, String>> it = mapaCadenas.entrySet().iterator(); it.hasNext();)
+        {
+            Map.Entry<String, String> entry = it.next();
+            String llave = entry.getKey().toUpperCase();
+            if (!llave.equals(entry.getKey()))
+            {
+                pendientes.add(llave);
+                pendientes.add(entry.getValue());
+                it.remove();
+            }
+        }
+        for (int i = 0; i < pendientes.size(); i += 2)
         {
-            nuevoMapa.put(entry.getKey().toUpperCase(), entry.getValue());
+            mapaCadenas.put(pendientes.get(i), pendientes.get(i + 1));
         }
-        mapaCadenas = nuevoMapa;
     }
 
     /**
@@ -0,0 +1,335 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.HashMap;
+
+/**
+ * Esta clase es una tabla de hash que asocia enteros a enteros sin convertirlos a objetos (Integer).
+ *
+ * Usa direccionamiento abierto con sondeo lineal sobre dos arreglos paralelos (llaves y valores), así que cada entrada ocupa 8 bytes en lugar de los más de 48 que ocupa en un HashMap.
+ *
+ * Una llave que no está en la tabla tiene asociado el valor 0.
+ */
+public class TablaHashEnteros
+{
+    /**
+     * La proporción máxima de casillas ocupadas antes de duplicar la capacidad
+     */
+    private static final float FACTOR_CARGA = 0.5f;
+
+    /**
+     * La llave 0 se usa para marcar las casillas vacías, así que sus datos se guardan aparte
+     */
+    private static final int VACIA = 0;
+
+    /**
+     * Las llaves almacenadas en cada casilla. Una casilla con la llave VACIA está libre.
+     */
+    private int[] llaves;
+
+    /**
+     * Los valores asociados a la llave de cada casilla
+     */
+    private int[] valores;
+
+    /**
+     * Indica si la llave 0 hace parte de la tabla
+     */
+    private boolean tieneCero;
+
+    /**
+     * El valor asociado a la llave 0
+     */
+    private int valorCero;
+
+    /**
+     * La cantidad de llaves en la tabla, sin contar la llave 0
+     */
+    private int ocupadas;
+
+    /**
+     * La cantidad de casillas ocupadas a partir de la cual se debe crecer la tabla
+     */
+    private int limite;
+
+    /**
+     * Crea una tabla vacía
+     */
+    public TablaHashEnteros( )
+    {
+        this( 16 );
+    }
+
+    /**
+     * Crea una tabla vacía con espacio suficiente para la cantidad de llaves esperada sin tener que crecer
+     * @param llavesEsperadas La cantidad de llaves que se espera almacenar
+     */
+    public TablaHashEnteros( int llavesEsperadas )
+    {
+        int capacidad = capacidadPara( llavesEsperadas );
+        llaves = new int[capacidad];
+        valores = new int[capacidad];
+        limite = ( int )( capacidad * FACTOR_CARGA );
+    }
+
+    /**
+     * Retorna la cantidad de llaves diferentes en la tabla
+     * @return La cantidad de llaves
+     */
+    public int getCantidadLlaves( )
+    {
+        return tieneCero ? ocupadas + 1 : ocupadas;
+    }
+
+    /**
+     * Indica si una llave hace parte de la tabla
+     * @param llave La llave buscada
+     * @return True si la llave está en la tabla
+     */
+    public boolean contieneLlave( int llave )
+    {
+        if( llave == VACIA )
+        {
+            return tieneCero;
+        }
+        return llaves[ buscarCasilla( llave ) ] != VACIA;
+    }
+
+    /**
+     * Retorna el valor asociado a una llave
+     * @param llave La llave buscada
+     * @return El valor asociado a la llave, o 0 si la llave no está en la tabla
+     */
+    public int obtener( int llave )
+    {
+        if( llave == VACIA )
+        {
+            return valorCero;
+        }
+        return valores[ buscarCasilla( llave ) ];
+    }
+
+    /**
+     * Asocia un valor a una llave, reemplazando el valor anterior si la llave ya estaba en la tabla
+     * @param llave La llave
+     * @param valor El nuevo valor asociado a la llave
+     */
+    public void poner( int llave, int valor )
+    {
+        if( llave == VACIA )
+        {
+            tieneCero = true;
+            valorCero = valor;
+            return;
+        }
+        int casilla = reservarCasilla( llave );
+        valores[ casilla ] = valor;
+    }
+
+    /**
+     * Suma una cantidad al valor asociado a una llave. Si la llave no estaba en la tabla, se agrega con la cantidad como valor.
+     * @param llave La llave
+     * @param cantidad La cantidad que se suma al valor de la llave
+     * @return El nuevo valor asociado a la llave
+     */
+    public int sumar( int llave, int cantidad )
+    {
+        if( llave == VACIA )
+        {
+            tieneCero = true;
+            valorCero += cantidad;
+            return valorCero;
+        }
+        int casilla = reservarCasilla( llave );
+        valores[ casilla ] += cantidad;
+        return valores[ casilla ];
+    }
+
+    /**
+     * Suma 1 al valor asociado a una llave
+     * @param llave La llave
+     * @return El nuevo valor asociado a la llave
+     */
+    public int incrementar( int llave )
+    {
+        return sumar( llave, 1 );
+    }
+
+    /**
+     * Suma a esta tabla los valores de todas las llaves de otra tabla
+     * @param otra La tabla cuyos valores se suman a esta
+     */
+    public void sumarTodo( TablaHashEnteros otra )
+    {
+        if( otra.tieneCero )
+        {
+            sumar( VACIA, otra.valorCero );
+        }
+        for( int casilla = 0; casilla < otra.llaves.length; casilla++ )
+        {
+            if( otra.llaves[ casilla ] != VACIA )
+            {
+                sumar( otra.llaves[ casilla ], otra.valores[ casilla ] );
+            }
+        }
+    }
+
+    /**
+     * Retorna las llaves de la tabla, sin ningún orden en particular
+     * @return Un arreglo con las llaves. La llave en cada posición corresponde al valor en la misma posición de getValores()
+     */
+    public int[] getLlaves( )
+    {
+        int[] resultado = new int[getCantidadLlaves( )];
+        int i = 0;
+        if( tieneCero )
+        {
+            resultado[ i++ ] = VACIA;
+        }
+        for( int llave : llaves )
+        {
+            if( llave != VACIA )
+            {
+                resultado[ i++ ] = llave;
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna los valores de la tabla, en el mismo orden de getLlaves()
+     * @return Un arreglo con los valores
+     */
+    public int[] getValores( )
+    {
+        int[] resultado = new int[getCantidadLlaves( )];
+        int i = 0;
+        if( tieneCero )
+        {
+            resultado[ i++ ] = valorCero;
+        }
+        for( int casilla = 0; casilla < llaves.length; casilla++ )
+        {
+            if( llaves[ casilla ] != VACIA )
+            {
+                resultado[ i++ ] = valores[ casilla ];
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Cuenta cuántas llaves tienen asociado un valor mayor al valor dado
+     * @param minimo El valor que deben superar las llaves contadas
+     * @return La cantidad de llaves cuyo valor es mayor a minimo
+     */
+    public int contarValoresMayoresA( int minimo )
+    {
+        int cantidad = tieneCero && valorCero > minimo ? 1 : 0;
+        for( int casilla = 0; casilla < llaves.length; casilla++ )
+        {
+            if( llaves[ casilla ] != VACIA && valores[ casilla ] > minimo )
+            {
+                cantidad++;
+            }
+        }
+        return cantidad;
+    }
+
+    /**
+     * Construye un HashMap con el contenido de la tabla
+     * @return Un nuevo HashMap con las mismas llaves y valores
+     */
+    public HashMap<Integer, Integer> aHashMap( )
+    {
+        HashMap<Integer, Integer> mapa = new HashMap<>( ( int )( getCantidadLlaves( ) / 0.75f ) + 1 );
+        if( tieneCero )
+        {
+            mapa.put( VACIA, valorCero );
+        }
+        for( int casilla = 0; casilla < llaves.length; casilla++ )
+        {
+            if( llaves[ casilla ] != VACIA )
+            {
+                mapa.put( llaves[ casilla ], valores[ casilla ] );
+            }
+        }
+        return mapa;
+    }
+
+    /**
+     * Retorna la casilla donde está la llave, o la casilla libre donde debería quedar si no está
+     */
+    private int buscarCasilla( int llave )
+    {
+        int mascara = llaves.length - 1;
+        int casilla = mezclar( llave ) & mascara;
+        while( llaves[ casilla ] != VACIA && llaves[ casilla ] != llave )
+        {
+            casilla = ( casilla + 1 ) & mascara;
+        }
+        return casilla;
+    }
+
+    /**
+     * Retorna la casilla de la llave, agregándola a la tabla si no estaba
+     */
+    private int reservarCasilla( int llave )
+    {
+        int casilla = buscarCasilla( llave );
+        if( llaves[ casilla ] == VACIA )
+        {
+            if( ocupadas >= limite )
+            {
+                crecer( );
+                casilla = buscarCasilla( llave );
+            }
+            llaves[ casilla ] = llave;
+            ocupadas++;
+        }
+        return casilla;
+    }
+
+    private void crecer( )
+    {
+        int[] llavesAnteriores = llaves;
+        int[] valoresAnteriores = valores;
+        llaves = new int[llavesAnteriores.length * 2];
+        valores = new int[llavesAnteriores.length * 2];
+        limite = ( int )( llaves.length * FACTOR_CARGA );
+        for( int i = 0; i < llavesAnteriores.length; i++ )
+        {
+            if( llavesAnteriores[ i ] != VACIA )
+            {
+                int casilla = buscarCasilla( llavesAnteriores[ i ] );
+                llaves[ casilla ] = llavesAnteriores[ i ];
+                valores[ casilla ] = valoresAnteriores[ i ];
+            }
+        }
+    }
+
+    /**
+     * Mezcla los bits de la llave para que valores consecutivos no queden en casillas consecutivas
+     */
+    private static int mezclar( int llave )
+    {
+        int h = llave * 0x9E3779B9;
+        return h ^ ( h >>> 16 );
+    }
+
+    private static int capacidadPara( int llavesEsperadas )
+    {
+        long minima = ( long )Math.ceil( Math.max( 1, llavesEsperadas ) / FACTOR_CARGA ) + 1;
+        int capacidad = 4;
+        while( capacidad < minima && capacidad < ( 1 << 30 ) )
+        {
+            capacidad <<= 1;
+        }
+        return capacidad;
+    }
+
+    @Override
+    public String toString( )
+    {
+        return aHashMap( ).toString( );
+    }
+}
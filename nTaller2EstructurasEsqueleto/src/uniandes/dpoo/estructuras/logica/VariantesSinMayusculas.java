@@ -0,0 +1,188 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Esta clase es un índice de cadenas que permite encontrar, sin distinguir mayúsculas de minúsculas, todas las variantes de una cadena que contiene.
+ *
+ * Es una tabla de hash con direccionamiento abierto y sondeo lineal, como ConteoCadenasSinMayusculas, pero cada casilla guarda una cadena exacta: "Hola" y "HOLA" ocupan casillas diferentes.
+ * Como las dos tienen el mismo hash, quedan en la misma secuencia de sondeo, así que para encontrar todas las variantes de una cadena basta recorrer esa secuencia hasta la primera casilla
+ * libre, sin crear copias en minúsculas.
+ *
+ * Las cadenas null no se guardan.
+ */
+final class VariantesSinMayusculas
+{
+    /**
+     * La proporción máxima de casillas ocupadas antes de duplicar la capacidad
+     */
+    private static final float FACTOR_CARGA = 0.5f;
+
+    /**
+     * Las cadenas del índice. Una casilla con null está libre.
+     */
+    private String[] cadenas;
+
+    /**
+     * La cantidad de casillas ocupadas
+     */
+    private int ocupadas;
+
+    /**
+     * La cantidad de casillas ocupadas a partir de la cual se debe crecer la tabla
+     */
+    private int limite;
+
+    /**
+     * Crea un índice vacío con espacio suficiente para la cantidad de cadenas esperada
+     * @param cadenasEsperadas La cantidad de cadenas que se espera guardar
+     */
+    VariantesSinMayusculas( int cadenasEsperadas )
+    {
+        long minima = ( long )Math.ceil( Math.max( 1, cadenasEsperadas ) / FACTOR_CARGA ) + 1;
+        int capacidad = 4;
+        while( capacidad < minima && capacidad < ( 1 << 30 ) )
+        {
+            capacidad <<= 1;
+        }
+        cadenas = new String[capacidad];
+        limite = ( int )( capacidad * FACTOR_CARGA );
+    }
+
+    /**
+     * Indica si el índice tiene alguna variante de una cadena, sin distinguir mayúsculas de minúsculas
+     * @param cadena La cadena buscada
+     * @return True si alguna cadena del índice es igual a la buscada según equalsIgnoreCase
+     */
+    boolean contieneVariante( String cadena )
+    {
+        int mascara = cadenas.length - 1;
+        for( int casilla = ConteoCadenasSinMayusculas.hash( cadena ) & mascara; cadenas[ casilla ] != null; casilla = ( casilla + 1 ) & mascara )
+        {
+            if( cadenas[ casilla ].equalsIgnoreCase( cadena ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retorna las variantes de una cadena que tiene el índice, sin distinguir mayúsculas de minúsculas
+     * @param cadena La cadena buscada
+     * @return Las cadenas del índice que son iguales a la buscada según equalsIgnoreCase. Si no hay ninguna, la lista es vacía.
+     */
+    List<String> variantes( String cadena )
+    {
+        List<String> encontradas = Collections.emptyList( );
+        int mascara = cadenas.length - 1;
+        for( int casilla = ConteoCadenasSinMayusculas.hash( cadena ) & mascara; cadenas[ casilla ] != null; casilla = ( casilla + 1 ) & mascara )
+        {
+            if( cadenas[ casilla ].equalsIgnoreCase( cadena ) )
+            {
+                if( encontradas.isEmpty( ) )
+                {
+                    encontradas = new ArrayList<>( 2 );
+                }
+                encontradas.add( cadenas[ casilla ] );
+            }
+        }
+        return encontradas;
+    }
+
+    /**
+     * Agrega una cadena al índice. Si la cadena exacta ya está, no hace nada.
+     * @param cadena La cadena que se agrega
+     */
+    void agregar( String cadena )
+    {
+        if( cadena == null )
+        {
+            return;
+        }
+        int casilla = buscarCasilla( cadena );
+        if( cadenas[ casilla ] != null )
+        {
+            return;
+        }
+        if( ocupadas >= limite )
+        {
+            crecer( );
+            casilla = buscarCasilla( cadena );
+        }
+        cadenas[ casilla ] = cadena;
+        ocupadas++;
+    }
+
+    /**
+     * Elimina una cadena exacta del índice. Sus otras variantes se conservan.
+     * @param cadena La cadena que se elimina
+     */
+    void eliminar( String cadena )
+    {
+        if( cadena == null )
+        {
+            return;
+        }
+        int casilla = buscarCasilla( cadena );
+        if( cadenas[ casilla ] != null )
+        {
+            eliminarCasilla( casilla );
+        }
+    }
+
+    /**
+     * Busca la casilla con la cadena exacta, o la casilla libre donde debería quedar
+     */
+    private int buscarCasilla( String cadena )
+    {
+        int mascara = cadenas.length - 1;
+        int casilla = ConteoCadenasSinMayusculas.hash( cadena ) & mascara;
+        while( cadenas[ casilla ] != null && !cadenas[ casilla ].equals( cadena ) )
+        {
+            casilla = ( casilla + 1 ) & mascara;
+        }
+        return casilla;
+    }
+
+    /**
+     * Libera una casilla y corre hacia atrás las cadenas siguientes que quedarían inalcanzables, para no tener que marcar casillas como borradas
+     */
+    private void eliminarCasilla( int casilla )
+    {
+        int mascara = cadenas.length - 1;
+        int libre = casilla;
+        cadenas[ libre ] = null;
+        ocupadas--;
+
+        int actual = ( libre + 1 ) & mascara;
+        while( cadenas[ actual ] != null )
+        {
+            int ideal = ConteoCadenasSinMayusculas.hash( cadenas[ actual ] ) & mascara;
+            // La cadena se puede correr si la casilla libre está entre su casilla ideal y su casilla actual
+            if( ( ( actual - ideal ) & mascara ) >= ( ( actual - libre ) & mascara ) )
+            {
+                cadenas[ libre ] = cadenas[ actual ];
+                cadenas[ actual ] = null;
+                libre = actual;
+            }
+            actual = ( actual + 1 ) & mascara;
+        }
+    }
+
+    private void crecer( )
+    {
+        String[] anteriores = cadenas;
+        cadenas = new String[anteriores.length * 2];
+        limite = ( int )( cadenas.length * FACTOR_CARGA );
+        for( String cadena : anteriores )
+        {
+            if( cadena != null )
+            {
+                cadenas[ buscarCasilla( cadena ) ] = cadena;
+            }
+        }
+    }
+}
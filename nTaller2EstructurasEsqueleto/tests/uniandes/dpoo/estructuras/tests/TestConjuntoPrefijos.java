@@ -0,0 +1,266 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ConjuntoPrefijos;
+
+class TestConjuntoPrefijos
+{
+    private ConjuntoPrefijos conjunto;
+
+    private static final String[] cadenas = new String[]{ "romane", "romanus", "romulus", "rubens", "ruber", "rubicon", "rubicundus", "rom", "" };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        conjunto = new ConjuntoPrefijos( Arrays.asList( cadenas ) );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        conjunto = null;
+    }
+
+    @Test
+    void testAgregarYEliminar( )
+    {
+        assertEquals( 9, conjunto.size( ), "La cantidad de cadenas no es la correcta" );
+        assertEquals( new ArrayList<>( new TreeSet<>( Arrays.asList( cadenas ) ) ), new ArrayList<>( conjunto ), "Las cadenas no están en orden lexicográfico" );
+        assertFalse( conjunto.add( "ruber" ), "No debería agregar una cadena repetida" );
+        assertTrue( conjunto.contains( "rom" ), "Debería encontrar una cadena que es prefijo de otras" );
+        assertFalse( conjunto.contains( "roma" ), "No debería encontrar un prefijo que no se agregó" );
+        assertFalse( conjunto.contains( "rubiconx" ), "No debería encontrar una cadena más larga que las agregadas" );
+
+        assertTrue( conjunto.remove( "romane" ), "Debería eliminar una cadena existente" );
+        assertTrue( conjunto.remove( "rom" ), "Debería eliminar una cadena existente" );
+        assertFalse( conjunto.remove( "rom" ), "No debería eliminar una cadena que ya no existe" );
+        assertTrue( conjunto.contains( "romanus" ), "Eliminar otras cadenas no debería afectar a las demás" );
+        assertTrue( conjunto.contains( "" ), "Debería encontrar la cadena vacía" );
+        assertEquals( 7, conjunto.size( ), "La cantidad de cadenas no es la correcta" );
+
+        assertThrows( NullPointerException.class, ( ) -> conjunto.add( null ), "No debería aceptar null" );
+        conjunto.clear( );
+        assertTrue( conjunto.isEmpty( ), "El conjunto debería estar vacío" );
+        assertThrows( NoSuchElementException.class, ( ) -> conjunto.first( ), "Un conjunto vacío no tiene primera cadena" );
+    }
+
+    @Test
+    void testVistas( )
+    {
+        assertEquals( "", conjunto.first( ), "La primera cadena no es la correcta" );
+        assertEquals( "rubicundus", conjunto.last( ), "La última cadena no es la correcta" );
+        assertEquals( Arrays.asList( "rubens", "ruber", "rubicon", "rubicundus" ), new ArrayList<>( conjunto.tailSet( "rub" ) ), "Las cadenas siguientes no son las correctas" );
+        assertEquals( Arrays.asList( "romulus", "romanus", "romane", "rom" ), new ArrayList<>( conjunto.descendingSet( ).subSet( "romz", "ro" ) ),
+                "El rango descendente no es el correcto" );
+
+        NavigableSet<String> cola = conjunto.tailSet( "ruber", false );
+        assertThrows( IllegalArgumentException.class, ( ) -> cola.add( "abc" ), "No debería agregar por fuera del rango" );
+        cola.add( "rubi" );
+        assertTrue( conjunto.contains( "rubi" ), "Agregar en la vista debería agregar en el conjunto" );
+        assertEquals( "rubi", cola.pollFirst( ), "La primera cadena de la vista no es la correcta" );
+        assertFalse( conjunto.contains( "rubi" ), "Eliminar en la vista debería eliminar en el conjunto" );
+        assertEquals( 2, cola.size( ), "La cantidad de cadenas de la vista no es la correcta" );
+
+        Iterator<String> iterador = conjunto.iterator( );
+        iterador.next( );
+        conjunto.add( "zeta" );
+        assertThrows( ConcurrentModificationException.class, ( ) -> iterador.next( ), "Debería detectar cambios por fuera del iterador" );
+    }
+
+    @Test
+    void testOperacionesContraTreeSet( )
+    {
+        // Cadenas cortas sobre un alfabeto pequeño, para que compartan muchos prefijos
+        Random aleatorio = new Random( 11 );
+        TreeSet<String> esperado = new TreeSet<>( Arrays.asList( cadenas ) );
+        for( int i = 0; i < 5000; i++ )
+        {
+            String cadena = cadenaAleatoria( aleatorio );
+            int operacion = aleatorio.nextInt( 3 );
+            if( operacion == 0 )
+            {
+                assertEquals( esperado.add( cadena ), conjunto.add( cadena ), "No coincide el resultado de agregar " + cadena );
+            }
+            else if( operacion == 1 )
+            {
+                assertEquals( esperado.remove( cadena ), conjunto.remove( cadena ), "No coincide el resultado de eliminar " + cadena );
+            }
+            assertEquals( esperado.contains( cadena ), conjunto.contains( cadena ), "No coincide contains para " + cadena );
+            assertEquals( esperado.ceiling( cadena ), conjunto.ceiling( cadena ), "No coincide ceiling para " + cadena );
+            assertEquals( esperado.higher( cadena ), conjunto.higher( cadena ), "No coincide higher para " + cadena );
+            assertEquals( esperado.floor( cadena ), conjunto.floor( cadena ), "No coincide floor para " + cadena );
+            assertEquals( esperado.lower( cadena ), conjunto.lower( cadena ), "No coincide lower para " + cadena );
+        }
+        assertEquals( esperado.size( ), conjunto.size( ), "La cantidad de cadenas no coincide" );
+        assertEquals( new ArrayList<>( esperado ), new ArrayList<>( conjunto ), "El recorrido no coincide" );
+        assertEquals( new ArrayList<>( esperado.descendingSet( ) ), new ArrayList<>( conjunto.descendingSet( ) ), "El recorrido descendente no coincide" );
+        assertEquals( new ArrayList<>( esperado.subSet( "b", false, "cab", true ) ), new ArrayList<>( conjunto.subSet( "b", false, "cab", true ) ), "El rango no coincide" );
+
+        // Vaciar el conjunto con el iterador debe dejar el árbol consistente
+        for( Iterator<String> it = conjunto.iterator( ); it.hasNext( ); )
+        {
+            if( it.next( ).length( ) % 2 == 0 )
+            {
+                it.remove( );
+            }
+        }
+        esperado.removeIf( c -> c.length( ) % 2 == 0 );
+        assertEquals( new ArrayList<>( esperado ), new ArrayList<>( conjunto ), "Eliminar con el iterador no dejó las cadenas esperadas" );
+        assertNull( conjunto.tailSet( "zz", true ).pollFirst( ), "No debería haber cadenas después de zz" );
+    }
+
+    @Test
+    void testIteradoresContraTreeSet( )
+    {
+        // Los rangos ascendentes y descendentes se recorren eliminando cadenas por el camino, lo que cambia la forma del árbol
+        Random aleatorio = new Random( 17 );
+        TreeSet<String> esperado = new TreeSet<>( Arrays.asList( cadenas ) );
+        for( int i = 0; i < 2000; i++ )
+        {
+            String cadena = cadenaAleatoria( aleatorio );
+            esperado.add( cadena );
+            conjunto.add( cadena );
+        }
+        for( int i = 0; i < 200; i++ )
+        {
+            String bajo = cadenaAleatoria( aleatorio );
+            String alto = cadenaAleatoria( aleatorio );
+            if( bajo.compareTo( alto ) > 0 )
+            {
+                String temporal = bajo;
+                bajo = alto;
+                alto = temporal;
+            }
+            boolean incluyeBajo = aleatorio.nextBoolean( );
+            boolean incluyeAlto = aleatorio.nextBoolean( );
+            NavigableSet<String> rangoEsperado = esperado.subSet( bajo, incluyeBajo, alto, incluyeAlto );
+            NavigableSet<String> rango = conjunto.subSet( bajo, incluyeBajo, alto, incluyeAlto );
+            if( aleatorio.nextBoolean( ) )
+            {
+                rangoEsperado = rangoEsperado.descendingSet( );
+                rango = rango.descendingSet( );
+            }
+            assertEquals( new ArrayList<>( rangoEsperado ), new ArrayList<>( rango ), "No coincide el recorrido entre " + bajo + " y " + alto );
+
+            int divisor = 2 + aleatorio.nextInt( 5 );
+            for( Iterator<String> it = rango.iterator( ); it.hasNext( ); )
+            {
+                String actual = it.next( );
+                if( actual.hashCode( ) % divisor == 0 )
+                {
+                    it.remove( );
+                    esperado.remove( actual );
+                }
+            }
+            assertEquals( new ArrayList<>( rangoEsperado ), new ArrayList<>( rango ), "Eliminar con el iterador entre " + bajo + " y " + alto + " no dejó las cadenas esperadas" );
+        }
+        assertEquals( new ArrayList<>( esperado ), new ArrayList<>( conjunto ), "El recorrido completo no coincide" );
+        assertEquals( new ArrayList<>( esperado.descendingSet( ) ), new ArrayList<>( conjunto.descendingSet( ) ), "El recorrido descendente no coincide" );
+    }
+
+    @Test
+    void testDesdeOrdenadas( )
+    {
+        Random aleatorio = new Random( 5 );
+        String[] ordenadas = new String[3000];
+        for( int i = 0; i < ordenadas.length; i++ )
+        {
+            ordenadas[ i ] = cadenaAleatoria( aleatorio );
+        }
+        Arrays.sort( ordenadas );
+        TreeSet<String> esperado = new TreeSet<>( Arrays.asList( ordenadas ) );
+
+        ConjuntoPrefijos construido = ConjuntoPrefijos.desdeOrdenadas( ordenadas, ordenadas.length );
+        assertEquals( esperado.size( ), construido.size( ), "Las cadenas repetidas deberían agregarse una sola vez" );
+        assertEquals( new ArrayList<>( esperado ), new ArrayList<>( construido ), "El recorrido no coincide" );
+
+        // El árbol construido debe seguir funcionando con las operaciones normales
+        for( String cadena : esperado.toArray( new String[0] ) )
+        {
+            if( aleatorio.nextBoolean( ) )
+            {
+                assertTrue( construido.remove( cadena ), "No eliminó una cadena del árbol construido" );
+                esperado.remove( cadena );
+            }
+        }
+        construido.add( "abcabc" );
+        esperado.add( "abcabc" );
+        assertEquals( new ArrayList<>( esperado ), new ArrayList<>( construido ), "El recorrido no coincide después de modificar el árbol" );
+
+        assertThrows( IllegalArgumentException.class, ( ) -> ConjuntoPrefijos.desdeOrdenadas( new String[]{ "b", "a" }, 2 ), "Debería rechazar cadenas desordenadas" );
+        assertEquals( Arrays.asList( "", "a" ), new ArrayList<>( ConjuntoPrefijos.desdeOrdenadas( new String[]{ "", "", "a", "z" }, 3 ) ),
+                "Solo debería usar las primeras posiciones del arreglo" );
+    }
+
+    @Test
+    void testPosiciones( )
+    {
+        assertEquals( 0, conjunto.posicionDe( "" ), "La cadena vacía debería ser la primera" );
+        assertEquals( 2, conjunto.posicionDe( "roma" ), "La posición de una cadena ausente no es la correcta" );
+        assertEquals( "romane", conjunto.obtener( 2 ), "La cadena en la posición no es la correcta" );
+        assertEquals( 4, conjunto.tailSet( "rub" ).size( ), "El tamaño del rango no es el correcto" );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> conjunto.obtener( 9 ), "Debería rechazar una posición por fuera del conjunto" );
+
+        // Las posiciones y los tamaños de los rangos deben coincidir con los de un TreeSet después de operaciones aleatorias y de construir en bloque
+        Random aleatorio = new Random( 3 );
+        TreeSet<String> esperado = new TreeSet<>( Arrays.asList( cadenas ) );
+        for( int i = 0; i < 3000; i++ )
+        {
+            String cadena = cadenaAleatoria( aleatorio );
+            if( aleatorio.nextBoolean( ) )
+            {
+                esperado.add( cadena );
+                conjunto.add( cadena );
+            }
+            else
+            {
+                esperado.remove( cadena );
+                conjunto.remove( cadena );
+            }
+            assertEquals( esperado.headSet( cadena ).size( ), conjunto.posicionDe( cadena ), "No coincide la posición de " + cadena );
+            String otra = cadenaAleatoria( aleatorio );
+            if( cadena.compareTo( otra ) <= 0 )
+            {
+                assertEquals( esperado.subSet( cadena, false, otra, true ).size( ), conjunto.subSet( cadena, false, otra, true ).size( ),
+                        "No coincide el tamaño del rango entre " + cadena + " y " + otra );
+            }
+        }
+        ConjuntoPrefijos construido = ConjuntoPrefijos.desdeOrdenadas( esperado.toArray( new String[0] ), esperado.size( ) );
+        int posicion = 0;
+        for( String cadena : esperado )
+        {
+            assertEquals( cadena, conjunto.obtener( posicion ), "No coincide la cadena en la posición " + posicion );
+            assertEquals( cadena, construido.obtener( posicion ), "No coincide la cadena en la posición " + posicion + " del árbol construido" );
+            posicion++;
+        }
+    }
+
+    private static String cadenaAleatoria( Random aleatorio )
+    {
+        StringBuilder cadena = new StringBuilder( );
+        int largo = aleatorio.nextInt( 6 );
+        for( int i = 0; i < largo; i++ )
+        {
+            cadena.append( ( char )( 'a' + aleatorio.nextInt( 3 ) ) );
+        }
+        return cadena.toString( );
+    }
+}
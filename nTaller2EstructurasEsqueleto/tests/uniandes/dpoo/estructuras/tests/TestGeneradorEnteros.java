@@ -0,0 +1,55 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.GeneradorEnteros;
+
+class TestGeneradorEnteros
+{
+    @Test
+    void testMismaSemillaEnParalelo( )
+    {
+        int[] secuencial = new int[100000];
+        int[] paralelo = new int[100000];
+        new GeneradorEnteros( 7 ).llenar( secuencial, 0, secuencial.length, -1000, 1000, false );
+        new GeneradorEnteros( 7 ).llenar( paralelo, 0, paralelo.length, -1000, 1000, true );
+
+        assertArrayEquals( secuencial, paralelo, "El llenado en paralelo no generó la misma secuencia" );
+    }
+
+    @Test
+    void testRango( )
+    {
+        int[] valores = new GeneradorEnteros( 3 ).generar( 10000, -2, 2 );
+
+        assertEquals( 10000, valores.length, "La cantidad de elementos no es correcta" );
+        for( int valor : valores )
+        {
+            assertTrue( -2 <= valor && valor <= 2, "Se generó un valor por fuera del rango: " + valor );
+        }
+    }
+
+    @Test
+    void testRangoCompleto( )
+    {
+        int[] valores = new GeneradorEnteros( 5 ).generar( 1000, Integer.MIN_VALUE, Integer.MAX_VALUE );
+        assertEquals( 1000, valores.length, "La cantidad de elementos no es correcta" );
+
+        int[] maximos = new GeneradorEnteros( 5 ).generar( 100, Integer.MAX_VALUE, Integer.MAX_VALUE );
+        for( int valor : maximos )
+        {
+            assertEquals( Integer.MAX_VALUE, valor, "Se generó un valor por fuera del rango" );
+        }
+    }
+
+    @Test
+    void testRangoInvalido( )
+    {
+        assertThrows( IllegalArgumentException.class, ( ) -> new GeneradorEnteros( ).generar( 10, 5, 4 ), "Debería rechazar un mínimo mayor al máximo" );
+    }
+}
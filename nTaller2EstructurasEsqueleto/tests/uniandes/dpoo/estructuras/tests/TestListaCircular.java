@@ -0,0 +1,146 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ListaCircular;
+
+class TestListaCircular
+{
+    private ListaCircular<String> lista;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        lista = new ListaCircular<>( );
+        lista.add( "c" );
+        lista.add( "d" );
+        lista.add( 0, "b" );
+        lista.add( 0, "a" );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        lista = null;
+    }
+
+    @Test
+    void testAgregarAlInicioYAlFinal( )
+    {
+        assertEquals( Arrays.asList( "a", "b", "c", "d" ), lista, "Los elementos no quedaron en el orden esperado" );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> lista.get( 4 ), "Debería rechazar una posición por fuera de la lista" );
+
+        // Con más elementos que la capacidad inicial el arreglo tiene que crecer mientras da la vuelta
+        for( int i = 0; i < 20; i++ )
+        {
+            lista.add( 0, "x" + i );
+            lista.add( "y" + i );
+        }
+        assertEquals( 44, lista.size( ), "La cantidad de elementos no es la correcta" );
+        assertEquals( "x19", lista.get( 0 ), "El primer elemento no es el correcto" );
+        assertEquals( "a", lista.get( 20 ), "El elemento no es el correcto" );
+        assertEquals( "y19", lista.get( 43 ), "El último elemento no es el correcto" );
+    }
+
+    @Test
+    void testInsertarYEliminarEnLaMitad( )
+    {
+        lista.add( 1, "a2" );
+        lista.add( 4, "c2" );
+        assertEquals( Arrays.asList( "a", "a2", "b", "c", "c2", "d" ), lista, "Los elementos no quedaron en el orden esperado" );
+
+        assertEquals( "a2", lista.remove( 1 ), "No retornó el elemento eliminado" );
+        assertEquals( "c2", lista.remove( 3 ), "No retornó el elemento eliminado" );
+        assertEquals( Arrays.asList( "a", "b", "c", "d" ), lista, "Los elementos no quedaron en el orden esperado" );
+    }
+
+    @Test
+    void testOperacionesContraArrayList( )
+    {
+        // Las mismas operaciones aleatorias sobre un ArrayList deben dejar los mismos elementos
+        List<String> esperada = new ArrayList<>( lista );
+        Random aleatorio = new Random( 7 );
+        for( int i = 0; i < 2000; i++ )
+        {
+            int operacion = aleatorio.nextInt( 4 );
+            if( operacion == 0 || esperada.isEmpty( ) )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) + 1 );
+                esperada.add( posicion, "e" + i );
+                lista.add( posicion, "e" + i );
+            }
+            else if( operacion == 1 )
+            {
+                esperada.add( 0, "i" + i );
+                lista.add( 0, "i" + i );
+            }
+            else
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.remove( posicion ), lista.remove( posicion ), "No retornó el elemento eliminado" );
+            }
+        }
+        assertEquals( esperada, lista, "Los elementos no coinciden con los del ArrayList" );
+    }
+
+    @Test
+    void testEliminarSiCumple( )
+    {
+        lista.add( 0, "b" );
+        assertTrue( lista.removeIf( e -> e.equals( "b" ) ), "Debería indicar que eliminó elementos" );
+        assertEquals( Arrays.asList( "a", "c", "d" ), lista, "Los elementos no quedaron en el orden esperado" );
+        assertEquals( false, lista.removeIf( e -> e.equals( "z" ) ), "No debería indicar que eliminó elementos" );
+    }
+
+    @Test
+    void testOrdenar( )
+    {
+        lista.add( 0, "z" );
+        lista.add( "m" );
+        lista.sort( String::compareTo );
+        assertEquals( Arrays.asList( "a", "b", "c", "d", "m", "z" ), lista, "La lista no quedó ordenada" );
+
+        lista.add( 0, "0" );
+        assertEquals( "0", lista.get( 0 ), "No agregó al inicio después de ordenar" );
+        lista.clear( );
+        assertEquals( 0, lista.size( ), "La lista debería estar vacía" );
+    }
+
+    @Test
+    void testInstantanea( )
+    {
+        List<String> instantanea = lista.instantanea( );
+        assertSame( instantanea, lista.instantanea( ), "Sin cambios en la lista debería retornar la misma instantánea" );
+        assertThrows( UnsupportedOperationException.class, ( ) -> instantanea.add( "x" ), "La instantánea no se debería poder modificar" );
+
+        lista.add( "e" );
+        lista.add( 0, "0" );
+        List<String> segunda = lista.instantanea( );
+        lista.set( 1, "A" );
+        lista.remove( 2 );
+        lista.removeIf( e -> e.equals( "d" ) );
+        lista.sort( String::compareTo );
+        lista.add( 1, "z" );
+
+        assertEquals( Arrays.asList( "a", "b", "c", "d" ), instantanea, "La instantánea cambió al modificar la lista" );
+        assertEquals( Arrays.asList( "0", "a", "b", "c", "d", "e" ), segunda, "La instantánea cambió al modificar la lista" );
+        assertEquals( Arrays.asList( "0", "z", "A", "c", "e" ), lista, "Los cambios no quedaron en la lista" );
+
+        List<String> tercera = lista.instantanea( );
+        lista.clear( );
+        lista.add( "nuevo" );
+        assertEquals( Arrays.asList( "0", "z", "A", "c", "e" ), tercera, "La instantánea cambió al limpiar la lista" );
+    }
+}
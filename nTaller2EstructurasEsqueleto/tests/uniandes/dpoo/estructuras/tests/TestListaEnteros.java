@@ -0,0 +1,174 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.Edicion;
+import uniandes.dpoo.estructuras.logica.ListaEnteros;
+
+class TestListaEnteros
+{
+    private ListaEnteros lista;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        lista = new ListaEnteros( );
+        for( int i = 0; i < 5; i++ )
+        {
+            lista.agregar( i * 10 );
+        }
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        lista = null;
+    }
+
+    @Test
+    void testAgregarYObtener( )
+    {
+        assertEquals( 5, lista.tamano( ), "La cantidad de valores no es la correcta" );
+        assertEquals( 0, lista.obtener( 0 ), "El valor no es el correcto" );
+        assertEquals( 40, lista.obtener( 4 ), "El valor no es el correcto" );
+        assertThrows( IndexOutOfBoundsException.class, ( ) -> lista.obtener( 5 ), "Debería rechazar una posición por fuera de la lista" );
+    }
+
+    @Test
+    void testInsertarYEliminar( )
+    {
+        lista.insertar( 0, -1 );
+        lista.insertar( 6, 99 );
+        lista.insertar( 3, 15 );
+        assertArrayEquals( new int[]{ -1, 0, 10, 15, 20, 30, 40, 99 }, lista.aArreglo( ), "Los valores no quedaron en el orden esperado" );
+
+        assertEquals( 15, lista.eliminarPosicion( 3 ), "No retornó el valor eliminado" );
+        lista.agregar( 10 );
+        assertEquals( 2, lista.eliminarValor( 10 ), "No eliminó todas las apariciones del valor" );
+        assertArrayEquals( new int[]{ -1, 0, 20, 30, 40, 99 }, lista.aArreglo( ), "Los valores no quedaron en el orden esperado" );
+    }
+
+    @Test
+    void testCrecer( )
+    {
+        ListaEnteros grande = new ListaEnteros( );
+        for( int i = 0; i < 10000; i++ )
+        {
+            grande.agregar( i );
+        }
+        assertEquals( 10000, grande.tamano( ), "La cantidad de valores no es la correcta" );
+        assertEquals( 9999, grande.obtener( 9999 ), "El valor no es el correcto" );
+    }
+
+    @Test
+    void testComoLista( )
+    {
+        List<Integer> vista = lista.comoLista( );
+        assertEquals( Arrays.asList( 0, 10, 20, 30, 40 ), vista, "La vista no tiene los valores de la lista" );
+
+        vista.add( 50 );
+        vista.set( 0, -5 );
+        vista.remove( 1 );
+        assertArrayEquals( new int[]{ -5, 20, 30, 40, 50 }, lista.aArreglo( ), "Los cambios en la vista no se reflejaron en la lista" );
+
+        lista.agregar( 60 );
+        assertEquals( 6, vista.size( ), "Los cambios en la lista no se reflejaron en la vista" );
+        assertTrue( vista.contains( 60 ), "Los cambios en la lista no se reflejaron en la vista" );
+    }
+
+    @Test
+    void testAplicarEdiciones( )
+    {
+        // Todas las posiciones se refieren a la lista original { 0, 10, 20, 30, 40 }
+        lista.aplicarEdiciones( Arrays.asList( Edicion.eliminacion( 2 ), Edicion.insercion( 2, 15 ), Edicion.insercion( 99, 50 ), Edicion.insercion( -3, -10 ), Edicion.eliminacion( 0 ),
+                Edicion.insercion( 2, 16 ), Edicion.eliminacion( 2 ), Edicion.eliminacion( 7 ) ) );
+
+        assertArrayEquals( new int[]{ -10, 10, 15, 16, 30, 40, 50 }, lista.aArreglo( ), "Las ediciones no se aplicaron correctamente" );
+
+        lista.aplicarEdiciones( new ArrayList<Edicion>( ) );
+        assertEquals( 7, lista.tamano( ), "Un grupo vacío no debería cambiar la lista" );
+    }
+
+    @Test
+    void testAplicarEdicionesContraUnaPorUna( )
+    {
+        // Aplicar las ediciones de mayor a menor posición, una por una, no altera las posiciones de las que faltan
+        Random aleatorio = new Random( 11 );
+        ListaEnteros grande = new ListaEnteros( );
+        List<Integer> esperada = new ArrayList<>( );
+        for( int i = 0; i < 500; i++ )
+        {
+            grande.agregar( i );
+            esperada.add( i );
+        }
+
+        List<Edicion> ediciones = new ArrayList<>( );
+        boolean[] eliminadas = new boolean[500];
+        for( int i = 0; i < 200; i++ )
+        {
+            int posicion = aleatorio.nextInt( 500 );
+            if( aleatorio.nextBoolean( ) )
+            {
+                ediciones.add( Edicion.insercion( posicion, -i ) );
+            }
+            else if( !eliminadas[ posicion ] )
+            {
+                eliminadas[ posicion ] = true;
+                ediciones.add( Edicion.eliminacion( posicion ) );
+            }
+        }
+        for( int posicion = 499; posicion >= 0; posicion-- )
+        {
+            if( eliminadas[ posicion ] )
+            {
+                esperada.remove( posicion );
+            }
+            int insertadas = 0;
+            for( Edicion edicion : ediciones )
+            {
+                if( edicion.esInsercion( ) && edicion.getPosicion( ) == posicion )
+                {
+                    esperada.add( posicion + insertadas++, edicion.getValor( ) );
+                }
+            }
+        }
+
+        grande.aplicarEdiciones( ediciones );
+        assertEquals( esperada, grande.comoLista( ), "Las ediciones no se aplicaron correctamente" );
+    }
+
+    @Test
+    void testInstantanea( )
+    {
+        List<Integer> instantanea = lista.instantanea( );
+        assertSame( instantanea, lista.instantanea( ), "Sin cambios en la lista debería retornar la misma instantánea" );
+        assertThrows( UnsupportedOperationException.class, ( ) -> instantanea.set( 0, 5 ), "La instantánea no se debería poder modificar" );
+
+        // Agregar al final no toca las posiciones que ve la instantánea
+        lista.agregar( 50 );
+        lista.cambiar( 0, -1 );
+        lista.eliminarValor( 20 );
+        lista.ordenarDescendente( false );
+        assertEquals( Arrays.asList( 0, 10, 20, 30, 40 ), instantanea, "La instantánea cambió al modificar la lista" );
+        assertArrayEquals( new int[]{ 50, 40, 30, 10, -1 }, lista.aArreglo( ), "Los cambios no quedaron en la lista" );
+
+        List<Integer> segunda = lista.instantanea( );
+        lista.limpiar( );
+        lista.agregar( 7 );
+        assertEquals( Arrays.asList( 50, 40, 30, 10, -1 ), segunda, "La instantánea cambió al reiniciar la lista" );
+        assertEquals( Arrays.asList( 7 ), lista.instantanea( ), "La nueva instantánea no tiene los valores actuales" );
+    }
+}
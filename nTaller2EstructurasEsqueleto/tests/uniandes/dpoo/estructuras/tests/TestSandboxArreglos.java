@@ -3,18 +3,24 @@ package uniandes.dpoo.estructuras.tests;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uniandes.dpoo.estructuras.logica.EstadisticasEnteros;
+import uniandes.dpoo.estructuras.logica.GeneradorEnteros;
 import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+import uniandes.dpoo.estructuras.logica.TablaHashEnteros;
 
 class TestSandboxArreglos
 {
@@ -145,6 +151,24 @@ class TestSandboxArreglos
         assertEquals( 99, copia[ 0 ], "El nuevo entero no quedó almacenado al final del arreglo" );
     }
 
+    @Test
+    void testAgregarMuchosEnteros( )
+    {
+        for( int i = 0; i < 1000; i++ )
+        {
+            vacio.agregarEntero( i );
+        }
+
+        assertEquals( 1000, vacio.getCantidadEnteros( ), "La cantidad de enteros no aumentó correctamente" );
+
+        int[] copia = vacio.getCopiaEnteros( );
+        assertEquals( 1000, copia.length, "El arreglo retornado no tiene la cantidad de elementos esperados" );
+        for( int i = 0; i < copia.length; i++ )
+        {
+            assertEquals( i, copia[ i ], "El arreglo retornado no tiene los elementos esperados" );
+        }
+    }
+
     @Test
     void testAgregarCadena( )
     {
@@ -169,6 +193,78 @@ class TestSandboxArreglos
         assertEquals( "mmmm", copia[ 0 ], "La nueva cadena no quedó almacenado al final del arreglo" );
     }
 
+    @Test
+    void testAgregarEnteros( )
+    {
+        sencillo.agregarEnteros( new int[]{ 99, 98, 97 } );
+
+        assertEquals( enterosSencillos.length + 3, sencillo.getCantidadEnteros( ), "La cantidad de enteros no aumentó correctamente" );
+
+        int[] copia = sencillo.getCopiaEnteros( );
+        for( int i = 0; i < enterosSencillos.length; i++ )
+        {
+            assertEquals( enterosSencillos[ i ], copia[ i ], "No se conservaron los enteros existentes" );
+        }
+        assertEquals( 99, copia[ enterosSencillos.length ], "Los nuevos enteros no quedaron al final del arreglo" );
+        assertEquals( 97, copia[ enterosSencillos.length + 2 ], "Los nuevos enteros no quedaron al final del arreglo" );
+    }
+
+    @Test
+    void testAgregarCadenas( )
+    {
+        vacio.agregarCadenas( new String[]{ "x", "y" } );
+        vacio.agregarCadenas( new String[]{ "z" } );
+
+        assertEquals( 3, vacio.getCantidadCadenas( ), "La cantidad de cadenas no aumentó correctamente" );
+
+        String[] copia = vacio.getCopiaCadenas( );
+        assertEquals( "x", copia[ 0 ], "Las nuevas cadenas no quedaron en el orden esperado" );
+        assertEquals( "z", copia[ 2 ], "Las nuevas cadenas no quedaron en el orden esperado" );
+    }
+
+    @Test
+    void testInsertarEnterosMitad( )
+    {
+        sencillo.insertarEnteros( new int[]{ 99, 98 }, 2 );
+
+        assertEquals( enterosSencillos.length + 2, sencillo.getCantidadEnteros( ), "La cantidad de enteros no aumentó correctamente" );
+
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( enterosSencillos[ 0 ], copia[ 0 ], "No se ajustaron correctamente los enteros existentes" );
+        assertEquals( enterosSencillos[ 1 ], copia[ 1 ], "No se ajustaron correctamente los enteros existentes" );
+        assertEquals( 99, copia[ 2 ], "No se insertaron los enteros correctamente en la posición 2" );
+        assertEquals( 98, copia[ 3 ], "No se insertaron los enteros correctamente en la posición 2" );
+        for( int i = 2; i < enterosSencillos.length; i++ )
+        {
+            assertEquals( enterosSencillos[ i ], copia[ i + 2 ], "No se ajustaron correctamente los enteros existentes" );
+        }
+    }
+
+    @Test
+    void testInsertarEnterosAfuera( )
+    {
+        sencillo.insertarEnteros( new int[]{ 99 }, -10 );
+        sencillo.insertarEnteros( new int[]{ 98 }, 1000 );
+
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( enterosSencillos.length + 2, copia.length, "La cantidad de enteros no aumentó correctamente" );
+        assertEquals( 99, copia[ 0 ], "No se insertó el entero correctamente en la primera posición" );
+        assertEquals( 98, copia[ copia.length - 1 ], "No se insertó el entero correctamente en la última posición" );
+    }
+
+    @Test
+    void testInsertarCadenas( )
+    {
+        sencillo.insertarCadenas( new String[]{ "x", "y" }, 1 );
+
+        String[] copia = sencillo.getCopiaCadenas( );
+        assertEquals( cadenasSencillas.length + 2, copia.length, "La cantidad de cadenas no aumentó correctamente" );
+        assertEquals( "a", copia[ 0 ], "No se ajustaron correctamente las cadenas existentes" );
+        assertEquals( "x", copia[ 1 ], "No se insertaron las cadenas correctamente" );
+        assertEquals( "y", copia[ 2 ], "No se insertaron las cadenas correctamente" );
+        assertEquals( "b", copia[ 3 ], "No se ajustaron correctamente las cadenas existentes" );
+    }
+
     @Test
     void testEliminarEnteroUnico( )
     {
@@ -200,6 +296,32 @@ class TestSandboxArreglos
         assertEquals( 0, vacio.getCantidadEnteros( ), "La cantidad de enteros debería seguir siendo la misma" );
     }
 
+    @Test
+    void testEliminarEnteros( )
+    {
+        sencillo.eliminarEnteros( new int[]{ 9, 6, 99, -5 } );
+
+        assertEquals( enterosSencillos.length - 6, sencillo.getCantidadEnteros( ), "La cantidad de enteros debería haber disminuido en 6" );
+        assertEquals( 0, sencillo.contarApariciones( 9 ), "El valor no se eliminó correctamente" );
+        assertEquals( 0, sencillo.contarApariciones( 6 ), "El valor no se eliminó correctamente" );
+        assertEquals( 0, sencillo.contarApariciones( -5 ), "El valor no se eliminó correctamente" );
+
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( 8, copia[ 0 ], "No se conservó el orden de los enteros restantes" );
+        assertEquals( 7, copia[ 1 ], "No se conservó el orden de los enteros restantes" );
+        assertEquals( 8, copia[ copia.length - 1 ], "No se conservó el orden de los enteros restantes" );
+    }
+
+    @Test
+    void testEliminarEnterosVacio( )
+    {
+        vacio.eliminarEnteros( new int[]{ 1, 2, 3 } );
+        assertEquals( 0, vacio.getCantidadEnteros( ), "La cantidad de enteros debería seguir siendo la misma" );
+
+        sencillo.eliminarEnteros( new int[]{} );
+        assertEquals( enterosSencillos.length, sencillo.getCantidadEnteros( ), "La cantidad de enteros debería seguir siendo la misma" );
+    }
+
     @Test
     void testEliminarCadenaUnico( )
     {
@@ -406,6 +528,42 @@ class TestSandboxArreglos
         }
     }
 
+    @Test
+    void testReiniciarArregloEnterosDesdeFlujo( )
+    {
+        sencillo.reiniciarArregloEnteros( DoubleStream.of( 1.5, -2.7, 3 ) );
+        assertTrue( sencillo.compararArregloEnteros( new int[]{ 1, -2, 3 } ), "No se reiniciaron correctamente los enteros desde el flujo" );
+
+        // Un iterador no conoce su tamaño, así que el arreglo tiene que crecer mientras se llena
+        sencillo.reiniciarArregloEnteros( DoubleStream.iterate( 0, v -> v + 1 ).limit( 1000 ).iterator( ) );
+        assertEquals( 1000, sencillo.getCantidadEnteros( ), "La nueva cantidad de enteros no es la correcta" );
+        assertEquals( 1, sencillo.contarApariciones( 999 ), "No se agregaron todos los valores del iterador" );
+    }
+
+    @Test
+    void testReiniciarArregloCadenasDesdeFlujo( )
+    {
+        sencillo.reiniciarArregloCadenas( Stream.of( 1, 'a', "Hello" ) );
+        assertEquals( 3, sencillo.getCantidadCadenas( ), "La nueva cantidad de cadenas no es la correcta" );
+        assertEquals( "a", sencillo.getCopiaCadenas( )[ 1 ], "No se ajustaron correctamente las cadenas existentes" );
+
+        sencillo.reiniciarArregloCadenas( Arrays.asList( "x", "y" ).iterator( ) );
+        assertEquals( 2, sencillo.getCantidadCadenas( ), "La nueva cantidad de cadenas no es la correcta" );
+        vacio.reiniciarArregloCadenas( Stream.empty( ) );
+        assertEquals( 0, vacio.getCantidadCadenas( ), "El arreglo debería quedar vacío" );
+
+        // Si recorrer la fuente falla, las cadenas anteriores se conservan
+        assertThrows( IllegalStateException.class, ( ) -> sencillo.reiniciarArregloCadenas( Stream.of( "a", "b" ).map( c -> {
+            if( c.equals( "b" ) )
+            {
+                throw new IllegalStateException( );
+            }
+            return c;
+        } ) ), "Debería propagar el error de la fuente" );
+        assertEquals( 2, sencillo.getCantidadCadenas( ), "No se conservaron las cadenas anteriores" );
+        assertEquals( "y", sencillo.getCopiaCadenas( )[ 1 ], "No se conservaron las cadenas anteriores" );
+    }
+
     @Test
     void testReiniciarArregloCadenas( )
     {
@@ -556,6 +714,52 @@ class TestSandboxArreglos
         assertEquals( 0, posiciones99.length, "No reconocio un valor que no está en el arreglo" );
     }
 
+    @Test
+    void testEncontrarEnteroOrdenado( )
+    {
+        sencillo.organizarEnteros( );
+        int[] copia = sencillo.getCopiaEnteros( );
+
+        int[] posiciones6 = sencillo.buscarEntero( 6 );
+        assertEquals( 3, posiciones6.length, "No encontró la posición correctamente: " + Arrays.toString( posiciones6 ) );
+        for( int posicion : posiciones6 )
+        {
+            assertEquals( 6, copia[ posicion ], "No encontró la posición correctamente: " + Arrays.toString( posiciones6 ) );
+        }
+        assertEquals( 0, sencillo.buscarEntero( 99 ).length, "No reconocio un valor que no está en el arreglo" );
+        assertEquals( 0, sencillo.buscarEntero( -99 ).length, "No reconocio un valor que no está en el arreglo" );
+
+        assertEquals( 3, sencillo.contarApariciones( 6 ), "No contó correctamente el entero" );
+        assertEquals( 1, sencillo.contarApariciones( copia[ 0 ] ), "No contó correctamente el entero" );
+        assertEquals( 0, sencillo.contarApariciones( 99 ), "No contó correctamente el entero" );
+    }
+
+    @Test
+    void testEncontrarEnteroOrdenadoDespuesDeModificar( )
+    {
+        sinRepetidos.organizarEnteros( );
+
+        sinRepetidos.agregarEntero( 20 );
+        sinRepetidos.insertarEntero( 5, 5 );
+        assertEquals( 2, sinRepetidos.contarApariciones( 5 ), "No contó correctamente el entero después de insertar en orden" );
+        assertEquals( 1, sinRepetidos.contarApariciones( 20 ), "No contó correctamente el entero después de agregar en orden" );
+
+        sinRepetidos.agregarEntero( 3 );
+        assertEquals( 2, sinRepetidos.contarApariciones( 3 ), "No contó correctamente el entero después de romper el orden" );
+        int[] posiciones3 = sinRepetidos.buscarEntero( 3 );
+        assertEquals( 2, posiciones3.length, "No encontró la posición correctamente: " + Arrays.toString( posiciones3 ) );
+        assertEquals( 3, posiciones3[ 0 ], "No encontró la posición correctamente: " + Arrays.toString( posiciones3 ) );
+        assertEquals( 12, posiciones3[ 1 ], "No encontró la posición correctamente: " + Arrays.toString( posiciones3 ) );
+
+        sinRepetidos.organizarEnteros( );
+        sinRepetidos.eliminarEntero( 5 );
+        assertEquals( 0, sinRepetidos.contarApariciones( 5 ), "El valor no se eliminó correctamente" );
+        assertEquals( 11, sinRepetidos.getCantidadEnteros( ), "La cantidad de enteros debería haber disminuido en 2" );
+        int[] rango = sinRepetidos.calcularRangoEnteros( );
+        assertEquals( 0, rango[ 0 ], "El menor valor del rango no es el correcto" );
+        assertEquals( 20, rango[ 1 ], "El mayor valor del rango no es el correcto" );
+    }
+
     @Test
     void testEncontrarEnteroVacio( )
     {
@@ -580,6 +784,28 @@ class TestSandboxArreglos
         assertEquals( 0, rango.length, "El rango retornado debería estar vacío" );
     }
 
+    @Test
+    void testCalcularEstadisticasEnteros( )
+    {
+        EstadisticasEnteros estadisticas = sinRepetidos.calcularEstadisticasEnteros( );
+
+        assertEquals( enterosSinRepetidos.length, estadisticas.getCantidad( ), "La cantidad de valores no es la correcta" );
+        assertEquals( 0, estadisticas.getMinimo( ), "El menor valor no es el correcto" );
+        assertEquals( 9, estadisticas.getMaximo( ), "El mayor valor no es el correcto" );
+        assertEquals( 45, estadisticas.getSuma( ), "La suma no es la correcta" );
+        assertEquals( 4.5, estadisticas.getPromedio( ), 1e-9, "El promedio no es el correcto" );
+        assertEquals( 8.25, estadisticas.getVarianza( ), 1e-9, "La varianza no es la correcta" );
+    }
+
+    @Test
+    void testCalcularEstadisticasEnterosVacio( )
+    {
+        EstadisticasEnteros estadisticas = vacio.calcularEstadisticasEnteros( );
+        assertEquals( 0, estadisticas.getCantidad( ), "La cantidad de valores no es la correcta" );
+        assertEquals( 0, estadisticas.getSuma( ), "La suma no es la correcta" );
+        assertEquals( 0, estadisticas.getVarianza( ), 1e-9, "La varianza no es la correcta" );
+    }
+
     @Test
     void testCalcularHistograma( )
     {
@@ -610,6 +836,33 @@ class TestSandboxArreglos
         assertEquals( 0, histograma.size( ), "La cantidad de valores en el histograma no es la correcta" );
     }
 
+    @Test
+    void testCalcularHistogramaRangoAmplio( )
+    {
+        vacio.agregarEnteros( new int[]{ Integer.MIN_VALUE, 0, Integer.MAX_VALUE, 0, 5000000, Integer.MIN_VALUE, 0 } );
+
+        HashMap<Integer, Integer> histograma = vacio.calcularHistograma( );
+        assertEquals( 4, histograma.size( ), "La cantidad de valores en el histograma no es la correcta" );
+        assertEquals( 2, histograma.get( Integer.MIN_VALUE ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 3, histograma.get( 0 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 1, histograma.get( Integer.MAX_VALUE ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 1, histograma.get( 5000000 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+
+        assertEquals( 2, vacio.contarEnterosRepetidos( ), "No contó correctamente la cantidad de enteros que están repetidos" );
+    }
+
+    @Test
+    void testCalcularHistogramaPrimitivo( )
+    {
+        TablaHashEnteros histograma = sencillo.calcularHistogramaPrimitivo( );
+
+        assertEquals( 14, histograma.getCantidadLlaves( ), "La cantidad de valores en el histograma no es la correcta" );
+        assertEquals( 3, histograma.obtener( 6 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 1, histograma.obtener( -5 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 0, histograma.obtener( 99 ), "Un valor que no está en el arreglo no debería aparecer en el histograma" );
+        assertFalse( histograma.contieneLlave( 99 ), "Un valor que no está en el arreglo no debería aparecer en el histograma" );
+    }
+
     @Test
     void testContarEnterosRepetidos( )
     {
@@ -644,6 +897,19 @@ class TestSandboxArreglos
         assertFalse( sencillo.compararArregloEnteros( ordenados ), "No comparó correctamente los arreglos en orden diferente" );
     }
 
+    @Test
+    void testBuscarPrimeraDiferencia( )
+    {
+        // sinRepetidos tiene { 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 }
+        assertEquals( -1, sinRepetidos.buscarPrimeraDiferencia( new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 } ), "Los enteros son iguales" );
+        assertEquals( 6, sinRepetidos.buscarPrimeraDiferencia( new int[]{ 9, 8, 7, 6, 5, 4, 0, 2, 1, 0 } ), "No encontró la primera diferencia" );
+        assertEquals( 0, sinRepetidos.buscarPrimeraDiferencia( new int[]{ 0, 8, 7, 6, 5, 4, 3, 2, 1, 9 } ), "No encontró la primera diferencia" );
+        assertEquals( 3, sinRepetidos.buscarPrimeraDiferencia( new int[]{ 9, 8, 7 } ), "La diferencia de un prefijo es el tamaño del más corto" );
+        assertEquals( 10, sinRepetidos.buscarPrimeraDiferencia( new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, -1 } ), "La diferencia de un prefijo es el tamaño del más corto" );
+        assertEquals( -1, vacio.buscarPrimeraDiferencia( new int[]{ } ), "Los enteros son iguales" );
+        assertEquals( 0, vacio.buscarPrimeraDiferencia( new int[]{ 1 } ), "La diferencia de un prefijo es el tamaño del más corto" );
+    }
+
     @Test
     void testCompararArregloEnterosVacio( )
     {
@@ -663,6 +929,24 @@ class TestSandboxArreglos
         assertTrue( sencillo.mismosEnteros( ordenados ), "No comparó correctamente los arreglos en orden diferente" );
     }
 
+    @Test
+    void testMismosEnterosDiferentes( )
+    {
+        int[] diferentes = new int[]{ -5, -4, -3, -2, 0, 1, 2, 3, 4, 5, 6, 6, 7, 7, 7, 8, 8, 9, 9 };
+        assertFalse( sencillo.mismosEnteros( diferentes ), "No comparó correctamente los arreglos con diferentes repeticiones" );
+
+        int[] fueraDelRango = new int[]{ -5, -4, -3, -2, 0, 1, 2, 3, 4, 5, 6, 6, 6, 7, 7, 8, 8, 9, 99 };
+        assertFalse( sencillo.mismosEnteros( fueraDelRango ), "No comparó correctamente los arreglos con valores diferentes" );
+    }
+
+    @Test
+    void testMismosEnterosRangoAmplio( )
+    {
+        vacio.agregarEnteros( new int[]{ Integer.MAX_VALUE, 7, Integer.MIN_VALUE, 7 } );
+        assertTrue( vacio.mismosEnteros( new int[]{ 7, Integer.MIN_VALUE, 7, Integer.MAX_VALUE } ), "No comparó correctamente los arreglos en orden diferente" );
+        assertFalse( vacio.mismosEnteros( new int[]{ 7, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE } ), "No comparó correctamente los arreglos con diferentes repeticiones" );
+    }
+
     @Test
     void testMismosEnterosVacio( )
     {
@@ -670,6 +954,32 @@ class TestSandboxArreglos
         assertTrue( vacio.mismosEnteros( new int[]{} ), "No comparó correctamente los arreglos" );
     }
 
+    @Test
+    void testModoParalelo( )
+    {
+        SandboxArreglos paralelo = new SandboxArreglos( );
+        paralelo.setUmbralParalelo( 1 );
+        paralelo.generarEnteros( 20000, -50, 50 );
+        sencillo.reiniciarArregloEnteros( new double[]{} );
+        sencillo.agregarEnteros( paralelo.getCopiaEnteros( ) );
+
+        assertEquals( sencillo.calcularHistograma( ), paralelo.calcularHistograma( ), "El histograma en paralelo no es el mismo" );
+        assertEquals( sencillo.contarEnterosRepetidos( ), paralelo.contarEnterosRepetidos( ), "No contó correctamente los repetidos en paralelo" );
+        assertEquals( sencillo.contarApariciones( 7 ), paralelo.contarApariciones( 7 ), "No contó correctamente el entero en paralelo" );
+
+        paralelo.agregarEntero( Integer.MAX_VALUE );
+        sencillo.agregarEntero( Integer.MAX_VALUE );
+        assertEquals( sencillo.calcularHistograma( ), paralelo.calcularHistograma( ), "El histograma en paralelo no es el mismo" );
+
+        paralelo.volverPositivos( );
+        sencillo.volverPositivos( );
+        assertTrue( sencillo.compararArregloEnteros( paralelo.getCopiaEnteros( ) ), "No se volvieron positivos los enteros en paralelo" );
+
+        paralelo.organizarEnteros( );
+        sencillo.organizarEnteros( );
+        assertTrue( sencillo.compararArregloEnteros( paralelo.getCopiaEnteros( ) ), "No se organizaron los enteros en paralelo" );
+    }
+
     @Test
     void testGenerarEnterosBasico( )
     {
@@ -694,6 +1004,30 @@ class TestSandboxArreglos
         assertEquals( 10, rango[ 1 ], "El mayor valor del rango no es el correcto" );
     }
 
+    @Test
+    void testGenerarEnterosConSemilla( )
+    {
+        SandboxArreglos otro = new SandboxArreglos( );
+        sencillo.setGeneradorEnteros( new GeneradorEnteros( 42 ) );
+        otro.setGeneradorEnteros( new GeneradorEnteros( 42 ) );
+
+        sencillo.generarEnteros( 10000, -10, 10 );
+        otro.generarEnteros( 10000, -10, 10 );
+
+        assertTrue( sencillo.compararArregloEnteros( otro.getCopiaEnteros( ) ), "Dos generadores con la misma semilla generaron valores diferentes" );
+    }
+
+    @Test
+    void testGenerarEnterosRangoInvalido( )
+    {
+        int[] anteriores = sencillo.getCopiaEnteros( );
+        assertThrows( IllegalArgumentException.class, ( ) -> sencillo.generarEnteros( 10, 5, 4 ), "Debería rechazar un mínimo mayor al máximo" );
+        assertTrue( sencillo.compararArregloEnteros( anteriores ), "Un rango inválido no debería cambiar los enteros" );
+
+        sencillo.generarEnteros( 0, 5, 4 );
+        assertEquals( 0, sencillo.getCantidadEnteros( ), "Generar cero enteros debería dejar el arreglo vacío" );
+    }
+
     @Test
     void testGenerarEnterosDistribucion( )
     {
@@ -3,6 +3,8 @@ package uniandes.dpoo.estructuras.tests;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -62,6 +64,23 @@ class TestSandboxConjuntos
         assertEquals( 0, vacio.getCantidadCadenas( ), "La cantidad inicial de cadenas en el sandbox vacío no es correcta" );
     }
 
+    @Test
+    void testGetVistaCadenas( )
+    {
+        List<String> vista = sencillo.getVistaCadenas( );
+        assertEquals( Arrays.asList( cadenasOrdenadas ), vista, "La vista no tiene los elementos esperados" );
+        assertSame( vista, sencillo.getVistaCadenas( ), "Sin cambios en el conjunto debería retornar la misma vista" );
+        assertThrows( UnsupportedOperationException.class, ( ) -> vista.set( 0, "x" ), "La vista no se debería poder modificar" );
+
+        sencillo.agregarCadena( "a" );
+        assertSame( vista, sencillo.getVistaCadenas( ), "Agregar una cadena repetida no cambia el conjunto" );
+
+        sencillo.eliminarPrimera( );
+        sencillo.agregarCadena( "z" );
+        assertEquals( Arrays.asList( cadenasOrdenadas ), vista, "La vista cambió al modificar el conjunto" );
+        assertEquals( Arrays.asList( "a", "c", "d", "e", "z" ), sencillo.getVistaCadenas( ), "La nueva vista no tiene las cadenas actuales" );
+    }
+
     @Test
     void testGetCadenasComoLista( )
     {
@@ -145,6 +164,39 @@ class TestSandboxConjuntos
         assertEquals( 0, siguientes.size( ), "La cantidad de elementos retornada no es correcta" );
     }
 
+    @Test
+    void testGetSiguientesDespuesDeReiniciar( )
+    {
+        vacio.agregarCadena( "a" );
+        Collection<String> siguientes = vacio.getSiguientes( "" );
+
+        vacio.reiniciarConjuntoCadenas( Arrays.asList( "b", "c" ) );
+        assertEquals( Arrays.asList( "b", "c" ), new ArrayList<>( siguientes ), "La colección debería reflejar el conjunto reiniciado" );
+        vacio.agregarCadena( "d" );
+        assertEquals( Arrays.asList( "b", "c", "d" ), new ArrayList<>( siguientes ), "La colección debería reflejar las cadenas agregadas después de reiniciar" );
+
+        vacio.volverMayusculas( );
+        assertEquals( Arrays.asList( "B", "C", "D" ), new ArrayList<>( siguientes ), "La colección debería reflejar el conjunto en mayúsculas" );
+    }
+
+    @Test
+    void testPaginaSiguientes( )
+    {
+        List<Object> objetos = new ArrayList<>( );
+        for( int i = 0; i < 1000; i++ )
+        {
+            objetos.add( String.format( "c%04d", i ) );
+        }
+        vacio.reiniciarConjuntoCadenas( objetos );
+
+        assertEquals( 500, vacio.getCantidadSiguientes( "c0500" ), "La cantidad de cadenas siguientes no es la correcta" );
+        assertEquals( 1000, vacio.getCantidadSiguientes( "a" ), "La cantidad de cadenas siguientes no es la correcta" );
+        assertEquals( Arrays.asList( "c0510", "c0511", "c0512" ), vacio.getPaginaSiguientes( "c0500", 10, 3 ), "La página no es la correcta" );
+        assertEquals( Arrays.asList( "c0998", "c0999" ), vacio.getPaginaSiguientes( "c05", 498, 5 ), "La última página debería estar incompleta" );
+        assertEquals( 0, vacio.getPaginaSiguientes( "c0999", 1, 5 ).size( ), "No debería haber cadenas después del final" );
+        assertThrows( IllegalArgumentException.class, ( ) -> vacio.getPaginaSiguientes( "c", -1, 5 ), "Debería rechazar un inicio negativo" );
+    }
+
     @Test
     void testGetSiguientesVacio( )
     {
@@ -274,6 +326,27 @@ class TestSandboxConjuntos
         assertEquals( 0, vacio.getCantidadCadenas( ), "La cantidad de cadenas debería seguir siendo la misma" );
     }
 
+    @Test
+    void testIndiceSinMayusculasOMinusculas( )
+    {
+        vacio.reiniciarConjuntoCadenas( Arrays.asList( "Hola", "HOLA", "hola", "mundo", "Mundial" ) );
+        vacio.agregarCadena( "hOlA" );
+        vacio.eliminarCadena( "hola" );
+        assertTrue( vacio.existeCadenaSinMayusculasOMinusculas( "HoLa" ), "Debería encontrar la cadena sin importar las mayúsculas" );
+        assertFalse( vacio.existeCadenaSinMayusculasOMinusculas( "mund" ), "No debería encontrar un prefijo" );
+
+        vacio.eliminarCadenaSinMayusculasOMinusculas( "hola" );
+        assertEquals( Arrays.asList( "Mundial", "mundo" ), vacio.getCadenasComoLista( ), "Debería eliminar todas las variantes de la cadena" );
+        assertFalse( vacio.existeCadenaSinMayusculasOMinusculas( "HOLA" ), "No debería quedar ninguna variante de la cadena" );
+
+        vacio.eliminarPrimera( );
+        vacio.volverMayusculas( );
+        assertFalse( vacio.existeCadenaSinMayusculasOMinusculas( "mundial" ), "La cadena eliminada no debería seguir en el índice" );
+        vacio.eliminarCadenaSinMayusculasOMinusculas( "Mundo" );
+        assertEquals( 0, vacio.getCantidadCadenas( ), "El índice debería tener las cadenas en mayúsculas" );
+        assertThrows( UnsupportedOperationException.class, ( ) -> vacio.getSiguientes( "a" ).clear( ), "Las cadenas siguientes no se deberían poder modificar" );
+    }
+
     @Test
     void testEliminarPrimera( )
     {
@@ -300,6 +373,40 @@ class TestSandboxConjuntos
         }
     }
 
+    @Test
+    void testReiniciarConjuntoCadenasDesdeFlujo( )
+    {
+        String[] nuevosValores = "Esta es una prueba con cadenas y con cadenas y con cadenas!".split( " " );
+        sencillo.reiniciarConjuntoCadenas( Arrays.stream( nuevosValores ) );
+        assertEquals( 8, sencillo.getCantidadCadenas( ), "La nueva cantidad de cadenas no es la correcta" );
+
+        sencillo.reiniciarConjuntoCadenas( Arrays.asList( 3, 1, 2, 1 ).iterator( ) );
+        assertEquals( Arrays.asList( "1", "2", "3" ), sencillo.getCadenasComoLista( ), "No se ajustaron correctamente las cadenas existentes" );
+    }
+
+    @Test
+    void testReiniciarConjuntoCadenasEnParalelo( )
+    {
+        assertThrows( IllegalArgumentException.class, ( ) -> sencillo.setUmbralParalelo( 0 ), "Debería rechazar un umbral que no es positivo" );
+        sencillo.setUmbralParalelo( 1 );
+
+        List<Object> objetos = new ArrayList<>( );
+        TreeSet<String> esperado = new TreeSet<>( );
+        for( int i = 0; i < 20000; i++ )
+        {
+            int valor = ( i * 7919 ) % 5000;
+            objetos.add( valor );
+            esperado.add( Integer.toString( valor ) );
+        }
+        sencillo.reiniciarConjuntoCadenas( objetos );
+        assertEquals( new ArrayList<>( esperado ), sencillo.getCadenasComoLista( ), "Las cadenas no quedaron ordenadas y sin repetidos" );
+
+        sencillo.reiniciarConjuntoCadenas( objetos.stream( ).map( o -> "x" + o ) );
+        assertEquals( 5000, sencillo.getCantidadCadenas( ), "La cantidad de cadenas del flujo no es la correcta" );
+        assertTrue( sencillo.existeCadenaSinMayusculasOMinusculas( "X4999" ), "El índice sin mayúsculas no tiene las cadenas nuevas" );
+        assertEquals( "x0", sencillo.getPrimera( ), "La primera cadena no es la correcta" );
+    }
+
     @Test
     void testVolverMayusculas( )
     {
@@ -1,18 +1,27 @@
 package uniandes.dpoo.estructuras.tests;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uniandes.dpoo.estructuras.logica.Edicion;
+import uniandes.dpoo.estructuras.logica.EstadisticasEnteros;
+import uniandes.dpoo.estructuras.logica.GeneradorEnteros;
 import uniandes.dpoo.estructuras.logica.SandboxListas;
 
 class TestSandboxListas
@@ -135,6 +144,26 @@ class TestSandboxListas
         assertFalse( copiaArreglo[ 0 ] == copia2[ 0 ], "Dos llamados al método retornaron el mismo arreglo" );
     }
 
+    @Test
+    void testGetVistas( )
+    {
+        List<Integer> enteros = sinRepetidos.getVistaEnteros( );
+        assertSame( enteros, sinRepetidos.getVistaEnteros( ), "Sin cambios en la lista debería retornar la misma vista" );
+        assertThrows( UnsupportedOperationException.class, ( ) -> enteros.set( 0, 99 ), "La vista no se debería poder modificar" );
+
+        sinRepetidos.volverPositivos( );
+        sinRepetidos.insertarEntero( -5, 0 );
+        sinRepetidos.organizarEnteros( );
+        assertEquals( Arrays.asList( 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 ), enteros, "La vista cambió al modificar la lista" );
+        assertEquals( Arrays.asList( 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, -5 ), sinRepetidos.getVistaEnteros( ), "La nueva vista no tiene los valores actuales" );
+
+        List<String> cadenas = sencillo.getVistaCadenas( );
+        sencillo.eliminarCadena( "a" );
+        sencillo.organizarCadenas( );
+        assertEquals( Arrays.asList( cadenasSencillas ), cadenas, "La vista cambió al modificar la lista" );
+        assertEquals( Arrays.asList( "b", "b", "c", "c", "d", "d", "e" ), sencillo.getVistaCadenas( ), "La nueva vista no tiene las cadenas actuales" );
+    }
+
     @Test
     void testGetCopiaEnterosComoArreglosVacia( )
     {
@@ -300,6 +329,15 @@ class TestSandboxListas
         assertEquals( enterosSencillos.length, sencillo.getCantidadEnteros( ), "La cantidad de enteros no debería haber cambiado" );
     }
 
+    @Test
+    void testAplicarEdiciones( )
+    {
+        // sinRepetidos tiene { 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 }
+        sinRepetidos.aplicarEdiciones( Arrays.asList( Edicion.insercion( 0, 10 ), Edicion.eliminacion( 9 ), Edicion.eliminacion( 4 ), Edicion.insercion( 20, -1 ), Edicion.eliminacion( -1 ) ) );
+
+        assertArrayEquals( new int[]{ 10, 9, 8, 7, 6, 4, 3, 2, 1, -1 }, sinRepetidos.getEnterosComoArreglo( ), "Las ediciones no se aplicaron correctamente" );
+    }
+
     @Test
     void testInsertarEnteroInicio( )
     {
@@ -428,6 +466,27 @@ class TestSandboxListas
         }
     }
 
+    @Test
+    void testReiniciarArregloEnterosDesdeFlujo( )
+    {
+        sencillo.reiniciarArregloEnteros( DoubleStream.of( 1.5, -2.7, 3 ) );
+        assertArrayEquals( new int[]{ 1, -2, 3 }, sencillo.getEnterosComoArreglo( ), "No se reiniciaron correctamente los enteros desde el flujo" );
+
+        sencillo.reiniciarArregloEnteros( DoubleStream.iterate( 0, v -> v + 1 ).limit( 1000 ).iterator( ) );
+        assertEquals( 1000, sencillo.getCantidadEnteros( ), "La nueva cantidad de enteros no es la correcta" );
+        assertEquals( 1, sencillo.contarApariciones( 999 ), "No se agregaron todos los valores del iterador" );
+    }
+
+    @Test
+    void testReiniciarArregloCadenasDesdeFlujo( )
+    {
+        sencillo.reiniciarArregloCadenas( Stream.of( 1, 'a', "Hello" ) );
+        assertEquals( Arrays.asList( "1", "a", "Hello" ), sencillo.getCopiaCadenas( ), "No se ajustaron correctamente las cadenas existentes" );
+
+        sencillo.reiniciarArregloCadenas( Arrays.asList( "x", "y" ).iterator( ) );
+        assertEquals( Arrays.asList( "x", "y" ), sencillo.getCopiaCadenas( ), "No se ajustaron correctamente las cadenas existentes" );
+    }
+
     @Test
     void testReiniciarArregloCadenas( )
     {
@@ -499,6 +558,63 @@ class TestSandboxListas
         assertEquals( 1, sencillo.contarApariciones( "xyz" ), "No contó correctamente las cadenas" );
     }
 
+    @Test
+    void testContarCadenaConIndice( )
+    {
+        sencillo.setIndiceApariciones( true );
+        assertTrue( sencillo.tieneIndiceApariciones( ), "El índice debería estar activo" );
+        assertEquals( 2, sencillo.contarApariciones( "A" ), "No contó correctamente las cadenas con diferencias entre mayúsculas y minúsculas" );
+
+        sencillo.agregarCadena( "A" );
+        sencillo.agregarCadena( "Straße" );
+        assertEquals( 3, sencillo.contarApariciones( "a" ), "El índice no se actualizó al agregar la cadena" );
+        assertEquals( 1, sencillo.contarApariciones( "STRAßE" ), "No contó correctamente las cadenas con diferencias entre mayúsculas y minúsculas" );
+
+        sencillo.eliminarCadena( "a" );
+        assertEquals( 1, sencillo.contarApariciones( "a" ), "El índice no se actualizó al eliminar la cadena" );
+        sencillo.eliminarCadena( "A" );
+        assertEquals( 0, sencillo.contarApariciones( "a" ), "El índice no se actualizó al eliminar la cadena" );
+
+        sencillo.reiniciarArregloCadenas( Stream.of( "Hola", "hola", "HOLA" ) );
+        assertEquals( 3, sencillo.contarApariciones( "hOlA" ), "El índice no se actualizó al reiniciar las cadenas" );
+        assertEquals( 0, sencillo.contarApariciones( "b" ), "El índice no se actualizó al reiniciar las cadenas" );
+    }
+
+    @Test
+    void testContarCadenaConIndiceContraRecorrido( )
+    {
+        // Con muchas cadenas que se agregan y se eliminan el índice debe responder lo mismo que recorrer la lista
+        SandboxListas conIndice = new SandboxListas( );
+        conIndice.setIndiceApariciones( true );
+        Random aleatorio = new Random( 5 );
+        for( int i = 0; i < 5000; i++ )
+        {
+            String cadena = "c" + aleatorio.nextInt( 300 );
+            if( aleatorio.nextBoolean( ) )
+            {
+                cadena = cadena.toUpperCase( );
+            }
+            if( aleatorio.nextInt( 4 ) == 0 )
+            {
+                conIndice.eliminarCadena( cadena );
+                vacio.eliminarCadena( cadena );
+            }
+            else
+            {
+                conIndice.agregarCadena( cadena );
+                vacio.agregarCadena( cadena );
+            }
+        }
+        for( int i = 0; i < 300; i++ )
+        {
+            assertEquals( vacio.contarApariciones( "c" + i ), conIndice.contarApariciones( "c" + i ), "El índice no coincide con el recorrido de la lista" );
+        }
+
+        conIndice.setIndiceApariciones( false );
+        assertFalse( conIndice.tieneIndiceApariciones( ), "El índice debería estar inactivo" );
+        assertEquals( vacio.contarApariciones( "C7" ), conIndice.contarApariciones( "C7" ), "No contó correctamente las cadenas sin el índice" );
+    }
+
     @Test
     void testContarCadenaVacio( )
     {
@@ -523,6 +639,38 @@ class TestSandboxListas
 
     }
 
+    @Test
+    void testOrganizarEnterosExtremos( )
+    {
+        // Con valores en los extremos, comparar restando se desborda y deja la lista mal ordenada
+        vacio.agregarEntero( Integer.MIN_VALUE );
+        vacio.agregarEntero( 1 );
+        vacio.agregarEntero( Integer.MAX_VALUE );
+        vacio.agregarEntero( -1 );
+        vacio.organizarEnteros( );
+
+        assertArrayEquals( new int[]{ Integer.MAX_VALUE, 1, -1, Integer.MIN_VALUE }, vacio.getEnterosComoArreglo( ), "No se organizaron correctamente los enteros" );
+    }
+
+    @Test
+    void testOrganizarEnterosParalelo( )
+    {
+        SandboxListas paralelo = new SandboxListas( );
+        paralelo.setGeneradorEnteros( new GeneradorEnteros( 3 ) );
+        paralelo.generarEnteros( 50000, Integer.MIN_VALUE, Integer.MAX_VALUE );
+        int[] esperado = paralelo.getEnterosComoArreglo( );
+        Arrays.sort( esperado );
+
+        paralelo.setUmbralParalelo( 1000 );
+        paralelo.organizarEnteros( );
+        int[] organizados = paralelo.getEnterosComoArreglo( );
+        for( int i = 0; i < esperado.length; i++ )
+        {
+            assertEquals( esperado[ esperado.length - 1 - i ], organizados[ i ], "No se organizaron correctamente los enteros en paralelo" );
+        }
+        assertThrows( IllegalArgumentException.class, ( ) -> paralelo.setUmbralParalelo( 0 ), "Debería rechazar un umbral que no es positivo" );
+    }
+
     @Test
     void testOrganizarEnterosVacio( )
     {
@@ -554,6 +702,25 @@ class TestSandboxListas
         assertEquals( 0, copia.size( ), "La cantidad de cadenas es correcta" );
     }
 
+    @Test
+    void testCalcularEstadisticasEnteros( )
+    {
+        EstadisticasEnteros estadisticas = sinRepetidos.calcularEstadisticasEnteros( );
+
+        assertEquals( enterosSinRepetidos.length, estadisticas.getCantidad( ), "La cantidad de valores no es la correcta" );
+        assertEquals( 0, estadisticas.getMinimo( ), "El menor valor no es el correcto" );
+        assertEquals( 9, estadisticas.getMaximo( ), "El mayor valor no es el correcto" );
+        assertEquals( 45, estadisticas.getSuma( ), "La suma no es la correcta" );
+        assertEquals( 4.5, estadisticas.getPromedio( ), 1e-9, "El promedio no es el correcto" );
+        assertEquals( 8.25, estadisticas.getVarianza( ), 1e-9, "La varianza no es la correcta" );
+    }
+
+    @Test
+    void testCalcularEstadisticasEnterosVacio( )
+    {
+        assertEquals( 0, vacio.calcularEstadisticasEnteros( ).getCantidad( ), "La cantidad de valores no es la correcta" );
+    }
+
     @Test
     void testContarEnterosRepetidos( )
     {
@@ -572,6 +739,17 @@ class TestSandboxListas
         assertEquals( 0, vacio.contarEnterosRepetidos( ), "No contó correctamente la cantidad de enteros que están repetidos" );
     }
 
+    @Test
+    void testGetEnterosRepetidos( )
+    {
+        SandboxListas repetidos = new SandboxListas( );
+        repetidos.reiniciarArregloEnteros( new double[]{ 3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5, 0, 0 } );
+
+        assertArrayEquals( new int[]{ 1, 5, 3, 0 }, repetidos.getEnterosRepetidos( ), "No encontró correctamente los enteros repetidos" );
+        assertEquals( 0, sinRepetidos.getEnterosRepetidos( ).length, "No debería haber enteros repetidos" );
+        assertEquals( 0, vacio.getEnterosRepetidos( ).length, "No debería haber enteros repetidos" );
+    }
+
     @Test
     void testCompararArregloEnterosIguales( )
     {
@@ -588,6 +766,19 @@ class TestSandboxListas
         assertFalse( sencillo.compararArregloEnteros( ordenados ), "No comparó correctamente los arreglos en orden diferente" );
     }
 
+    @Test
+    void testBuscarPrimeraDiferencia( )
+    {
+        // sinRepetidos tiene { 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 }
+        assertEquals( -1, sinRepetidos.buscarPrimeraDiferencia( new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 } ), "Los enteros son iguales" );
+        assertEquals( 6, sinRepetidos.buscarPrimeraDiferencia( new int[]{ 9, 8, 7, 6, 5, 4, 0, 2, 1, 0 } ), "No encontró la primera diferencia" );
+        assertEquals( 0, sinRepetidos.buscarPrimeraDiferencia( new int[]{ 0, 8, 7, 6, 5, 4, 3, 2, 1, 9 } ), "No encontró la primera diferencia" );
+        assertEquals( 3, sinRepetidos.buscarPrimeraDiferencia( new int[]{ 9, 8, 7 } ), "La diferencia de un prefijo es el tamaño del más corto" );
+        assertEquals( 10, sinRepetidos.buscarPrimeraDiferencia( new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, -1 } ), "La diferencia de un prefijo es el tamaño del más corto" );
+        assertEquals( -1, vacio.buscarPrimeraDiferencia( new int[]{ } ), "Los enteros son iguales" );
+        assertEquals( 0, vacio.buscarPrimeraDiferencia( new int[]{ 1 } ), "La diferencia de un prefijo es el tamaño del más corto" );
+    }
+
     @Test
     void testCompararArregloEnterosVacio( )
     {
@@ -636,6 +827,41 @@ class TestSandboxListas
         assertTrue( 10 >= maximo, "El mayor valor del rango no es el correcto: " + minimo + " a " + maximo );
     }
 
+    @Test
+    void testGenerarEnterosConSemilla( )
+    {
+        SandboxListas otro = new SandboxListas( );
+        sencillo.setGeneradorEnteros( new GeneradorEnteros( 42 ) );
+        otro.setGeneradorEnteros( new GeneradorEnteros( 42 ) );
+
+        sencillo.generarEnteros( 10000, -10, 10 );
+        otro.generarEnteros( 10000, -10, 10 );
+
+        assertTrue( sencillo.compararArregloEnteros( otro.getEnterosComoArreglo( ) ), "Dos generadores con la misma semilla generaron valores diferentes" );
+    }
+
+    @Test
+    void testGenerarEnterosCasosLimite( )
+    {
+        sencillo.generarEnteros( -3, 0, 10 );
+        assertEquals( 0, sencillo.getCantidadEnteros( ), "Una cantidad negativa debería dejar la lista vacía" );
+        sencillo.agregarEntero( 4 );
+        assertEquals( 1, sencillo.getCantidadEnteros( ), "La lista vacía debería poder crecer" );
+
+        sencillo.generarEnteros( 0, 5, 4 );
+        assertEquals( 0, sencillo.getCantidadEnteros( ), "Generar cero enteros debería dejar la lista vacía" );
+
+        sencillo.agregarEntero( 7 );
+        assertThrows( IllegalArgumentException.class, ( ) -> sencillo.generarEnteros( 10, 5, 4 ), "Debería rechazar un mínimo mayor al máximo" );
+        assertEquals( 1, sencillo.getCantidadEnteros( ), "Un rango inválido no debería cambiar la lista" );
+
+        sencillo.setUmbralParalelo( 1 );
+        sencillo.generarEnteros( 5000, -3, 3 );
+        assertEquals( 5000, sencillo.getCantidadEnteros( ), "La cantidad de elementos no es correcta" );
+        EstadisticasEnteros estadisticas = sencillo.calcularEstadisticasEnteros( );
+        assertTrue( estadisticas.getMinimo( ) >= -3 && estadisticas.getMaximo( ) <= 3, "Los valores deberían estar dentro del rango" );
+    }
+
     @Test
     void testGenerarEnterosDistribucion( )
     {
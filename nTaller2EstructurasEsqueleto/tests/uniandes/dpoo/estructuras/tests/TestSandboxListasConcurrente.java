@@ -0,0 +1,122 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.Edicion;
+import uniandes.dpoo.estructuras.logica.SandboxListasConcurrente;
+
+class TestSandboxListasConcurrente
+{
+    private SandboxListasConcurrente sandbox;
+
+    private static final int[] enterosSinRepetidos = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0 };
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        sandbox = new SandboxListasConcurrente( );
+        for( int i = 0; i < enterosSinRepetidos.length; i++ )
+        {
+            sandbox.agregarEntero( enterosSinRepetidos[ i ] );
+        }
+        sandbox.agregarCadena( "a" );
+        sandbox.agregarCadena( "B" );
+        sandbox.agregarCadena( "b" );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        sandbox = null;
+    }
+
+    @Test
+    void testOperacionesDelegadas( )
+    {
+        assertEquals( 10, sandbox.getCantidadEnteros( ), "La cantidad de enteros no es la correcta" );
+        assertEquals( 3, sandbox.getCantidadCadenas( ), "La cantidad de cadenas no es la correcta" );
+        assertTrue( sandbox.compararArregloEnteros( enterosSinRepetidos ), "La lista debería ser igual al arreglo" );
+        assertEquals( 2, sandbox.contarApariciones( "b" ), "La cantidad de apariciones no es la correcta" );
+
+        sandbox.setIndiceApariciones( true );
+        assertTrue( sandbox.tieneIndiceApariciones( ), "El índice debería estar activo" );
+        assertEquals( 2, sandbox.contarApariciones( "B" ), "La cantidad de apariciones con el índice no es la correcta" );
+
+        List<Integer> vista = sandbox.getVistaEnteros( );
+        sandbox.aplicarEdiciones( Arrays.asList( Edicion.eliminacion( 0 ), Edicion.insercion( 10, 100 ) ) );
+        sandbox.organizarEnteros( );
+        assertArrayEquals( new int[]{ 100, 8, 7, 6, 5, 4, 3, 2, 1, 0 }, sandbox.getEnterosComoArreglo( ), "Las ediciones no quedaron aplicadas" );
+        assertEquals( 9, vista.get( 0 ), "La vista cambió al modificar la lista" );
+        assertEquals( 100, sandbox.getCopiaEnteros( ).get( 0 ), "La copia no tiene los valores actuales" );
+    }
+
+    @Test
+    void testEscritoresYLectoresConcurrentes( ) throws Exception
+    {
+        final int escritores = 4;
+        final int lectores = 4;
+        final int agregadosPorEscritor = 2000;
+        ExecutorService hilos = Executors.newFixedThreadPool( escritores + lectores );
+        CountDownLatch inicio = new CountDownLatch( 1 );
+        List<Future<?>> tareas = new ArrayList<>( );
+        try
+        {
+            for( int e = 0; e < escritores; e++ )
+            {
+                tareas.add( hilos.submit( ( ) -> {
+                    inicio.await( );
+                    for( int i = 0; i < agregadosPorEscritor; i++ )
+                    {
+                        sandbox.agregarEntero( -1 );
+                        sandbox.agregarCadena( "x" );
+                    }
+                    return null;
+                } ) );
+            }
+            for( int l = 0; l < lectores; l++ )
+            {
+                tareas.add( hilos.submit( ( ) -> {
+                    inicio.await( );
+                    int anterior = 0;
+                    for( int i = 0; i < agregadosPorEscritor; i++ )
+                    {
+                        // Cada escritura es atómica: el conteo nunca retrocede y coincide con la cantidad de enteros agregados
+                        int apariciones = sandbox.contarApariciones( -1 );
+                        assertTrue( apariciones >= anterior, "El conteo de apariciones retrocedió" );
+                        assertTrue( sandbox.getCantidadEnteros( ) >= 10 + apariciones, "La cantidad de enteros es menor que la esperada" );
+                        anterior = apariciones;
+                    }
+                    return null;
+                } ) );
+            }
+            inicio.countDown( );
+            for( Future<?> tarea : tareas )
+            {
+                tarea.get( 30, TimeUnit.SECONDS );
+            }
+        }
+        finally
+        {
+            hilos.shutdownNow( );
+        }
+
+        assertEquals( 10 + escritores * agregadosPorEscritor, sandbox.getCantidadEnteros( ), "Se perdieron enteros agregados" );
+        assertEquals( escritores * agregadosPorEscritor, sandbox.contarApariciones( -1 ), "Se perdieron enteros agregados" );
+        assertEquals( escritores * agregadosPorEscritor, sandbox.contarApariciones( "X" ), "Se perdieron cadenas agregadas" );
+    }
+}
@@ -193,6 +193,18 @@ class TestSandboxMapas
         assertEquals( 8, sencillo.getCantidadCadenasDiferentes( ), "La nueva cantidad de cadenas no es la correcta" );
     }
 
+    @Test
+    void testReiniciarMapaCadenasDesdeFlujo( )
+    {
+        String[] nuevosValores = "Esta es una prueba con cadenas y con cadenas y con cadenas!".split( " " );
+        sencillo.reiniciarMapaCadenas( Arrays.stream( nuevosValores ) );
+        assertEquals( 8, sencillo.getCantidadCadenasDiferentes( ), "La nueva cantidad de cadenas no es la correcta" );
+
+        sencillo.reiniciarMapaCadenas( Arrays.asList( "abc", "abc", "xy" ).iterator( ) );
+        assertEquals( 2, sencillo.getCantidadCadenasDiferentes( ), "La nueva cantidad de cadenas no es la correcta" );
+        assertTrue( sencillo.getValoresComoLista( ).contains( "xy" ), "No se agregaron las cadenas del iterador" );
+    }
+
     @Test
     void testVolverMayusculas( )
     {
@@ -205,6 +217,23 @@ class TestSandboxMapas
         }
     }
 
+    @Test
+    void testVolverMayusculasConservaValores( )
+    {
+        List<String> valores = sencillo.getValoresComoLista( );
+        sencillo.volverMayusculas( );
+        assertEquals( valores, sencillo.getValoresComoLista( ), "Los valores no deberían cambiar al volver mayúsculas las llaves" );
+        assertTrue( sencillo.getLlaves( ).contains( "EB" ), "La llave no quedó en mayúsculas" );
+        assertFalse( sencillo.getLlaves( ).contains( "eB" ), "La llave anterior no debería seguir en el mapa" );
+
+        // Dos llaves que solo difieren en mayúsculas quedan como una sola
+        vacio.agregarCadena( "ab" );
+        vacio.agregarCadena( "AB" );
+        vacio.volverMayusculas( );
+        assertEquals( 1, vacio.getCantidadCadenasDiferentes( ), "Las llaves repetidas en mayúsculas deberían quedar como una sola" );
+        assertEquals( "BA", vacio.getPrimera( ), "La llave debería quedar en mayúsculas" );
+    }
+
     @Test
     void testCompararValores( )
     {
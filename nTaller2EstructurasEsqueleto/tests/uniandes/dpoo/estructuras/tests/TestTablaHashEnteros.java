@@ -0,0 +1,91 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.TablaHashEnteros;
+
+class TestTablaHashEnteros
+{
+    private TablaHashEnteros tabla;
+
+    @BeforeEach
+    void setUp( ) throws Exception
+    {
+        tabla = new TablaHashEnteros( );
+    }
+
+    @AfterEach
+    void reset( )
+    {
+        tabla = null;
+    }
+
+    @Test
+    void testVacia( )
+    {
+        assertEquals( 0, tabla.getCantidadLlaves( ), "La tabla debería estar vacía" );
+        assertEquals( 0, tabla.obtener( 5 ), "Una llave que no está en la tabla debería tener el valor 0" );
+        assertFalse( tabla.contieneLlave( 0 ), "La tabla no debería contener la llave 0" );
+        assertEquals( 0, tabla.getLlaves( ).length, "La tabla no debería tener llaves" );
+    }
+
+    @Test
+    void testPonerYObtener( )
+    {
+        tabla.poner( 7, 70 );
+        tabla.poner( -7, -70 );
+        tabla.poner( 0, 100 );
+        tabla.poner( 7, 71 );
+
+        assertEquals( 3, tabla.getCantidadLlaves( ), "La cantidad de llaves no es la correcta" );
+        assertEquals( 71, tabla.obtener( 7 ), "El valor de la llave no se reemplazó" );
+        assertEquals( -70, tabla.obtener( -7 ), "El valor de la llave no es el correcto" );
+        assertEquals( 100, tabla.obtener( 0 ), "El valor de la llave 0 no es el correcto" );
+        assertTrue( tabla.contieneLlave( 0 ), "La tabla debería contener la llave 0" );
+    }
+
+    @Test
+    void testIncrementarMuchasLlaves( )
+    {
+        for( int i = -5000; i < 5000; i++ )
+        {
+            tabla.incrementar( i * 31 );
+            tabla.incrementar( i * 31 );
+        }
+        tabla.sumar( 31, 5 );
+
+        assertEquals( 10000, tabla.getCantidadLlaves( ), "La cantidad de llaves no es la correcta" );
+        assertEquals( 2, tabla.obtener( -31 ), "El valor de la llave no es el correcto" );
+        assertEquals( 7, tabla.obtener( 31 ), "El valor de la llave no es el correcto" );
+        assertEquals( 10000, tabla.contarValoresMayoresA( 1 ), "No contó correctamente los valores mayores a 1" );
+        assertEquals( 1, tabla.contarValoresMayoresA( 2 ), "No contó correctamente los valores mayores a 2" );
+    }
+
+    @Test
+    void testLlavesYValores( )
+    {
+        tabla.poner( 0, 1 );
+        tabla.poner( Integer.MIN_VALUE, 2 );
+        tabla.poner( Integer.MAX_VALUE, 3 );
+
+        int[] llaves = tabla.getLlaves( );
+        int[] valores = tabla.getValores( );
+        assertEquals( 3, llaves.length, "La cantidad de llaves no es la correcta" );
+        for( int i = 0; i < llaves.length; i++ )
+        {
+            assertEquals( tabla.obtener( llaves[ i ] ), valores[ i ], "Las llaves y los valores no están en el mismo orden" );
+        }
+
+        HashMap<Integer, Integer> mapa = tabla.aHashMap( );
+        assertEquals( 3, mapa.size( ), "El mapa no tiene la cantidad de llaves esperada" );
+        assertEquals( 2, mapa.get( Integer.MIN_VALUE ), "El mapa no tiene el valor esperado" );
+    }
+}